@@ -0,0 +1,63 @@
+package com.soon.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateTimeCodec与DateTimeFormatter的格式化、解析耗时对比
+ * 运行：gradle jmh -PjmhIncludes=DateTimeCodecBenchmark
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateTimeCodecBenchmark {
+    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private final LocalDateTime dateTime = LocalDateTime.of(2024, 2, 29, 13, 45, 59, 123_000_000);
+    private final String text = "2024-02-29 13:45:59";
+    private final char[] buf = new char[DateTimeCodec.Layout.STANDARD.getLength()];
+    private final StringBuilder builder = new StringBuilder(64);
+
+    @Benchmark
+    public String formatWithFormatter() {
+        return formatter.format(dateTime);
+    }
+
+    @Benchmark
+    public String formatWithCodec() {
+        return DateTimeCodec.format(dateTime, DateTimeCodec.Layout.STANDARD);
+    }
+
+    @Benchmark
+    public char[] formatToBuffer() {
+        DateTimeCodec.formatTo(dateTime, DateTimeCodec.Layout.STANDARD, buf, 0);
+        return buf;
+    }
+
+    @Benchmark
+    public StringBuilder appendToBuilder() {
+        builder.setLength(0);
+        DateTimeCodec.appendTo(builder, dateTime, DateTimeCodec.Layout.STANDARD);
+        return builder;
+    }
+
+    @Benchmark
+    public LocalDateTime parseWithFormatter() {
+        return LocalDateTime.parse(text, formatter);
+    }
+
+    @Benchmark
+    public LocalDateTime parseWithCodec() {
+        return DateTimeCodec.parse(text, DateTimeCodec.Layout.STANDARD);
+    }
+}
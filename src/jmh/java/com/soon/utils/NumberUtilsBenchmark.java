@@ -0,0 +1,66 @@
+package com.soon.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.text.NumberFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 补零：NumberUtils与String.format、NumberFormat的耗时对比
+ * 运行：gradle jmh -PjmhIncludes=NumberUtilsBenchmark
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NumberUtilsBenchmark {
+    private final long number = 1_234_567L;
+    private final char[] buf = new char[32];
+    private final StringBuilder builder = new StringBuilder(32);
+    private final NumberFormat numberFormat = NumberFormat.getInstance();
+
+    {
+        numberFormat.setGroupingUsed(false);
+        numberFormat.setMinimumIntegerDigits(10);
+        numberFormat.setMaximumIntegerDigits(10);
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format("%010d", number);
+    }
+
+    @Benchmark
+    public String numberFormat() {
+        return numberFormat.format(number);
+    }
+
+    @Benchmark
+    public String fillZero() {
+        return NumberUtils.fillZero(number, 10);
+    }
+
+    @Benchmark
+    public String fillZeroTruncated() {
+        return NumberUtils.fillZeroTruncated(number, 6);
+    }
+
+    @Benchmark
+    public char[] writeZeroPadded() {
+        NumberUtils.writeZeroPadded(number, 10, buf, 0);
+        return buf;
+    }
+
+    @Benchmark
+    public StringBuilder appendZeroPadded() {
+        builder.setLength(0);
+        return NumberUtils.appendZeroPadded(builder, number, 10);
+    }
+}
@@ -0,0 +1,93 @@
+package com.soon.utils.uid;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ID编码：Base62、Crockford Base32与UUID.toString、十六进制的耗时对比
+ * 运行：gradle jmh -PjmhIncludes=IdCodecBenchmark
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdCodecBenchmark {
+    private final long id = 0x0189_0A5D_AC96_774BL;
+    private final UUID uuid = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057");
+    private final char[] buf = new char[32];
+    private final String base62Long = IdCodec.BASE62.encode(id);
+    private final String base62Uuid = IdCodec.BASE62.encode(uuid);
+    private final String crockfordLong = IdCodec.CROCKFORD32.encode(id);
+    private final String crockfordUuid = IdCodec.CROCKFORD32.encode(uuid);
+    private final String uuidText = uuid.toString();
+
+    @Benchmark
+    public String longToHexString() {
+        return Long.toHexString(id);
+    }
+
+    @Benchmark
+    public String encodeBase62Long() {
+        return IdCodec.BASE62.encode(id);
+    }
+
+    @Benchmark
+    public String encodeCrockfordLong() {
+        return IdCodec.CROCKFORD32.encode(id);
+    }
+
+    @Benchmark
+    public char[] encodeBase62LongToBuffer() {
+        IdCodec.BASE62.encode(id, buf, 0);
+        return buf;
+    }
+
+    @Benchmark
+    public String uuidToString() {
+        return uuid.toString();
+    }
+
+    @Benchmark
+    public String encodeBase62Uuid() {
+        return IdCodec.BASE62.encode(uuid);
+    }
+
+    @Benchmark
+    public String encodeCrockfordUuid() {
+        return IdCodec.CROCKFORD32.encode(uuid);
+    }
+
+    @Benchmark
+    public long decodeBase62Long() {
+        return IdCodec.BASE62.decodeLong(base62Long);
+    }
+
+    @Benchmark
+    public long decodeCrockfordLong() {
+        return IdCodec.CROCKFORD32.decodeLong(crockfordLong);
+    }
+
+    @Benchmark
+    public UUID uuidFromString() {
+        return UUID.fromString(uuidText);
+    }
+
+    @Benchmark
+    public UUID decodeBase62Uuid() {
+        return IdCodec.BASE62.decodeUuid(base62Uuid);
+    }
+
+    @Benchmark
+    public UUID decodeCrockfordUuid() {
+        return IdCodec.CROCKFORD32.decodeUuid(crockfordUuid);
+    }
+}
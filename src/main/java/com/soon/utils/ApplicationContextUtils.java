@@ -1,25 +1,51 @@
 package com.soon.utils;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ApplicationContextEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * 应用上下文工具类
+ * 单例bean的查找结果按类型（ClassValue）和名称缓存，上下文刷新或关闭时失效；非单例（如prototype）的bean每次都从上下文获取
+ * 按类型获取时，是否为单例的判断同样按类型缓存，非单例的bean不会每次都遍历容器中的bean名称
  *
  * @author soon
  * @since 2021/05/28
  */
 @Component
-public class ApplicationContextUtils implements ApplicationContextAware {
+public class ApplicationContextUtils implements ApplicationContextAware, ApplicationListener<ApplicationContextEvent> {
     private ApplicationContextUtils() {}
 
     private static ApplicationContext applicationContext;
 
+    /**
+     * 缓存的版本号，上下文刷新或关闭时递增，版本号不一致的缓存视为失效
+     */
+    private static volatile int generation;
+
+    private static final ClassValue<TypeCache> TYPE_CACHES = new ClassValue<TypeCache>() {
+        @Override
+        protected TypeCache computeValue(Class<?> type) {
+            return new TypeCache();
+        }
+    };
+
+    private static final ConcurrentMap<String, Cached<Object>> NAME_CACHE = new ConcurrentHashMap<>();
+
+    private static volatile boolean beanRefWarmUp = Boolean.getBoolean("soon.bean-ref.warm-up");
+
     /**
      * 设置context，只能设置一次，设置后不能再次修改
      *
@@ -33,11 +59,52 @@ public class ApplicationContextUtils implements ApplicationContextAware {
             synchronized (ApplicationContextUtils.class) {
                 if (Objects.isNull(applicationContext)) {
                     applicationContext = appContext;
+                    invalidate();
                 }
             }
         }
     }
 
+    /**
+     * 上下文刷新或关闭时清空缓存，刷新时按需预先解析所有的{@link BeanRef}
+     *
+     * @param event 事件
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    @Override
+    public void onApplicationEvent(ApplicationContextEvent event) {
+        if (event instanceof ContextRefreshedEvent || event instanceof ContextClosedEvent) {
+            invalidate();
+        }
+        if (event instanceof ContextRefreshedEvent && beanRefWarmUp) {
+            BeanRef.warmUpAll();
+        }
+    }
+
+    /**
+     * 设置是否在上下文刷新完成后预先解析所有的{@link BeanRef}，默认读取系统属性 soon.bean-ref.warm-up
+     * 在所有单例创建完成之后解析，避免在setApplicationContext时提前创建其他bean打乱初始化顺序
+     *
+     * @param warmUp 是否预先解析
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static void setBeanRefWarmUp(boolean warmUp) {
+        beanRefWarmUp = warmUp;
+    }
+
+    /**
+     * 清空bean的缓存
+     *
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static synchronized void invalidate() {
+        generation++;
+        NAME_CACHE.clear();
+    }
+
     /**
      * 获取spring容器中的bean
      *
@@ -47,7 +114,16 @@ public class ApplicationContextUtils implements ApplicationContextAware {
      * @since 2021/5/31 11:38
      */
     public static Object getBean (String name) {
-        return applicationContext.getBean(name);
+        Cached<Object> cached = NAME_CACHE.get(name);
+        int current = generation;
+        if (cached != null && cached.generation == current) {
+            return cached.value;
+        }
+        Object bean = applicationContext.getBean(name);
+        if (applicationContext.isSingleton(name)) {
+            NAME_CACHE.put(name, new Cached<>(current, bean));
+        }
+        return bean;
     }
 
     /**
@@ -59,18 +135,94 @@ public class ApplicationContextUtils implements ApplicationContextAware {
      * @since 2021/5/31 11:42
      */
     public static <T> T getBean (Class<T> clazz) {
-        return applicationContext.getBean(clazz);
+        TypeCache cache = TYPE_CACHES.get(clazz);
+        Cached<Object> cached = cache.bean;
+        int current = generation;
+        if (cached != null && cached.generation == current) {
+            return clazz.cast(cached.value);
+        }
+        T bean = applicationContext.getBean(clazz);
+        if (isSingleton(cache, clazz, current)) {
+            cache.bean = new Cached<>(current, bean);
+        }
+        return bean;
     }
 
     /**
      * 获取该类的所有对象
+     * 全部为单例时从缓存的快照复制，否则每次从上下文获取；返回的Map与以前一样可以修改
      *
      * @param clazz 类
      * @return java.util.Map<java.lang.String,T> 所有的对象
      * @author HuYiGong
      * @since 2021/5/31 11:47
      */
+    @SuppressWarnings("unchecked")
     public static <T> Map<String, T> getBeansOfType(Class<T> clazz) {
-        return applicationContext.getBeansOfType(clazz);
+        TypeCache cache = TYPE_CACHES.get(clazz);
+        Cached<Map<String, ?>> cached = cache.beansOfType;
+        int current = generation;
+        if (cached != null && cached.generation == current) {
+            return new LinkedHashMap<>((Map<String, T>) cached.value);
+        }
+        Map<String, T> beans = applicationContext.getBeansOfType(clazz);
+        if (allSingletons(beans.keySet().toArray(new String[0]))) {
+            cache.beansOfType = new Cached<>(current, new LinkedHashMap<>(beans));
+        }
+        return beans;
+    }
+
+    static boolean isInitialized() {
+        return applicationContext != null;
+    }
+
+    static int getGeneration() {
+        return generation;
+    }
+
+    static boolean isSingleton(String name) {
+        return applicationContext.isSingleton(name);
+    }
+
+    static boolean isSingleton(Class<?> clazz) {
+        return isSingleton(TYPE_CACHES.get(clazz), clazz, generation);
+    }
+
+    /**
+     * 类型对应的bean是否全部为单例，结果按版本号缓存，避免非单例的bean每次获取都遍历容器中的bean名称
+     */
+    private static boolean isSingleton(TypeCache cache, Class<?> clazz, int current) {
+        Cached<Boolean> cached = cache.singleton;
+        if (cached != null && cached.generation == current) {
+            return cached.value;
+        }
+        boolean singleton = allSingletons(BeanFactoryUtils.beanNamesForTypeIncludingAncestors(applicationContext, clazz));
+        cache.singleton = new Cached<>(current, singleton);
+        return singleton;
+    }
+
+    private static boolean allSingletons(String[] names) {
+        for (String name : names) {
+            if (!applicationContext.isSingleton(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class TypeCache {
+        private volatile Cached<Object> bean;
+        private volatile Cached<Map<String, ?>> beansOfType;
+        private volatile Cached<Boolean> singleton;
+    }
+
+    private static final class Cached<V> {
+        private final int generation;
+        private final V value;
+
+        private Cached(int generation, V value) {
+            this.generation = generation;
+            this.value = value;
+        }
     }
 }
@@ -1,10 +1,18 @@
 package com.soon.utils;
 
+import com.soon.utils.bean.BeanPatcher;
+import com.soon.utils.bean.BeanProperties;
+import com.soon.utils.bean.Copier;
+import com.soon.utils.bean.CopierEngine;
+import com.soon.utils.bean.PregeneratedCopiers;
 import com.soon.utils.consts.Tips;
-import net.sf.cglib.beans.BeanCopier;
 import net.sf.cglib.core.Converter;
 
+import java.util.BitSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Created on 2021/5/11.
@@ -14,8 +22,53 @@ import java.util.Objects;
 public class BeanCopierUtils {
     private BeanCopierUtils() {}
 
+    /**
+     * 按源类型（ClassValue）缓存拷贝器，类卸载时随之回收，不会钉住应用的类加载器
+     */
+    private static final ClassValue<ConcurrentMap<CopierKey, Copier>> COPIERS =
+            new ClassValue<ConcurrentMap<CopierKey, Copier>>() {
+                @Override
+                protected ConcurrentMap<CopierKey, Copier> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private static final ClassValue<ConcurrentMap<Class<?>, BeanPatcher>> PATCHERS =
+            new ClassValue<ConcurrentMap<Class<?>, BeanPatcher>>() {
+                @Override
+                protected ConcurrentMap<Class<?>, BeanPatcher> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private static volatile CopierEngine defaultEngine = CopierEngine.CGLIB;
+
+    /**
+     * 设置全局默认的拷贝器引擎
+     *
+     * @param engine 拷贝器引擎
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static void setDefaultEngine(CopierEngine engine) {
+        Objects.requireNonNull(engine, String.format(Tips.PARAMS_CANNOT_BE_NULL, "engine"));
+        defaultEngine = engine;
+    }
+
+    /**
+     * 获取全局默认的拷贝器引擎
+     *
+     * @return com.soon.utils.bean.CopierEngine 拷贝器引擎
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static CopierEngine getDefaultEngine() {
+        return defaultEngine;
+    }
+
     /**
      * 从源对象中拷贝属性到目标属性中，只会拷贝类型和名称完全相同的属性
+     * 优先使用编译期生成的拷贝器（见{@link com.soon.utils.bean.GenerateCopier}），未生成时使用默认引擎
      *
      * @param source 源对象
      * @param target 目标对象
@@ -24,9 +77,25 @@ public class BeanCopierUtils {
      */
     public static void copy(Object source, Object target) {
         Objects.requireNonNull(source, String.format(Tips.PARAMS_CANNOT_BE_NULL, "source"));
-        Objects.requireNonNull(source, String.format(Tips.PARAMS_CANNOT_BE_NULL, "target"));
-        BeanCopier copier = BeanCopier.create(source.getClass(), target.getClass(), false);
-        copier.copy(source, target, null);
+        Objects.requireNonNull(target, String.format(Tips.PARAMS_CANNOT_BE_NULL, "target"));
+        getCopier(source.getClass(), target.getClass(), false, defaultEngine).copy(source, target, null);
+    }
+
+    /**
+     * 使用指定的引擎，从源对象中拷贝属性到目标属性中，只会拷贝类型和名称完全相同的属性
+     * 存在编译期生成的拷贝器时优先使用，不使用engine
+     *
+     * @param source 源对象
+     * @param target 目标对象
+     * @param engine 拷贝器引擎
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static void copy(Object source, Object target, CopierEngine engine) {
+        Objects.requireNonNull(source, String.format(Tips.PARAMS_CANNOT_BE_NULL, "source"));
+        Objects.requireNonNull(target, String.format(Tips.PARAMS_CANNOT_BE_NULL, "target"));
+        Objects.requireNonNull(engine, String.format(Tips.PARAMS_CANNOT_BE_NULL, "engine"));
+        getCopier(source.getClass(), target.getClass(), false, engine).copy(source, target, null);
     }
 
     /**
@@ -39,10 +108,195 @@ public class BeanCopierUtils {
      * @since 2021/5/11
      */
     public static void copy(Object source, Object target, Converter converter) {
+        copy(source, target, converter, defaultEngine);
+    }
+
+    /**
+     * 使用指定的引擎，从源对象中拷贝属性到目标属性中，根据转换器拷贝
+     *
+     * @param source 源对象
+     * @param target 目标对象
+     * @param converter 转换器
+     * @param engine 拷贝器引擎
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static void copy(Object source, Object target, Converter converter, CopierEngine engine) {
         Objects.requireNonNull(source, String.format(Tips.PARAMS_CANNOT_BE_NULL, "source"));
         Objects.requireNonNull(target, String.format(Tips.PARAMS_CANNOT_BE_NULL, "target"));
         Objects.requireNonNull(converter, String.format(Tips.PARAMS_CANNOT_BE_NULL, "converter"));
-        BeanCopier copier = BeanCopier.create(source.getClass(), target.getClass(), true);
-        copier.copy(source, target, converter);
+        Objects.requireNonNull(engine, String.format(Tips.PARAMS_CANNOT_BE_NULL, "engine"));
+        getCopier(source.getClass(), target.getClass(), true, engine).copy(source, target, converter);
+    }
+
+    /**
+     * 获取拷贝器，同一组参数只会生成一次
+     * 不使用转换器时优先使用编译期生成的拷贝器（见{@link com.soon.utils.bean.GenerateCopier}），此时忽略engine
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     * @param useConverter 是否使用转换器
+     * @param engine 拷贝器引擎
+     * @return com.soon.utils.bean.Copier 拷贝器
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static Copier getCopier(Class<?> sourceClass, Class<?> targetClass, boolean useConverter, CopierEngine engine) {
+        ConcurrentMap<CopierKey, Copier> copiers = COPIERS.get(sourceClass);
+        CopierKey key = new CopierKey(targetClass, useConverter, engine);
+        Copier copier = copiers.get(key);
+        if (copier == null) {
+            copier = copiers.computeIfAbsent(key, k -> {
+                Copier pregenerated = useConverter ? null : PregeneratedCopiers.find(sourceClass, targetClass);
+                return pregenerated != null ? pregenerated : engine.create(sourceClass, targetClass, useConverter);
+            });
+        }
+        return copier;
+    }
+
+    /**
+     * 补丁拷贝，只拷贝源对象中不为null且与目标对象中的值不同的属性，用于PATCH接口的局部更新
+     * 补丁拷贝需要逐个比较属性，不使用编译期生成的拷贝器
+     * 基本类型的属性没有null，总是参与比较：与目标值相同时跳过，不同时拷贝，源对象中未赋值的默认值（如0、false）也会覆盖目标值，
+     * 需要区分“未传”和“置为0”时，源类型应使用包装类型；目标属性不可读时无法比较，拷贝后总是视为发生了变化
+     * 例如：
+     * BitSet changed = BeanCopierUtils.patch(dto, entity);
+     * List<String> columns = BeanCopierUtils.getPatcher(dto.getClass(), entity.getClass()).getPropertyNames(changed);
+     *
+     * @param source 源对象
+     * @param target 目标对象
+     * @return java.util.BitSet 发生变化的属性下标
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static BitSet patch(Object source, Object target) {
+        Objects.requireNonNull(source, String.format(Tips.PARAMS_CANNOT_BE_NULL, "source"));
+        Objects.requireNonNull(target, String.format(Tips.PARAMS_CANNOT_BE_NULL, "target"));
+        return getPatcher(source.getClass(), target.getClass()).patch(source, target);
+    }
+
+    /**
+     * 获取补丁拷贝器，同一组参数只会生成一次
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     * @return com.soon.utils.bean.BeanPatcher 补丁拷贝器
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static BeanPatcher getPatcher(Class<?> sourceClass, Class<?> targetClass) {
+        ConcurrentMap<Class<?>, BeanPatcher> patchers = PATCHERS.get(sourceClass);
+        BeanPatcher patcher = patchers.get(targetClass);
+        if (patcher == null) {
+            patcher = patchers.computeIfAbsent(targetClass, k -> BeanPatcher.create(sourceClass, targetClass));
+        }
+        return patcher;
+    }
+
+    /**
+     * 对象转Map，包含所有可读属性
+     *
+     * @param bean 对象
+     * @return java.util.Map<java.lang.String,java.lang.Object> 属性名与属性值
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static Map<String, Object> toMap(Object bean) {
+        Objects.requireNonNull(bean, String.format(Tips.PARAMS_CANNOT_BE_NULL, "bean"));
+        return BeanProperties.of(bean.getClass()).toMap(bean);
+    }
+
+    /**
+     * Map转对象，通过无参构造方法创建对象，跳过类型不兼容的值
+     *
+     * @param map 属性名与属性值
+     * @param type 对象类型
+     * @return T 对象
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static <T> T fromMap(Map<String, ?> map, Class<T> type) {
+        Objects.requireNonNull(type, String.format(Tips.PARAMS_CANNOT_BE_NULL, "type"));
+        T bean = type.cast(BeanProperties.of(type).newInstance());
+        fromMap(map, bean);
+        return bean;
+    }
+
+    /**
+     * Map转对象，通过无参构造方法创建对象，根据转换器转换属性值
+     *
+     * @param map 属性名与属性值
+     * @param type 对象类型
+     * @param converter 转换器
+     * @return T 对象
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static <T> T fromMap(Map<String, ?> map, Class<T> type, Converter converter) {
+        Objects.requireNonNull(type, String.format(Tips.PARAMS_CANNOT_BE_NULL, "type"));
+        T bean = type.cast(BeanProperties.of(type).newInstance());
+        fromMap(map, bean, converter);
+        return bean;
+    }
+
+    /**
+     * 将Map中的值写入对象的同名属性，跳过类型不兼容的值
+     *
+     * @param map 属性名与属性值
+     * @param bean 对象
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static void fromMap(Map<String, ?> map, Object bean) {
+        Objects.requireNonNull(map, String.format(Tips.PARAMS_CANNOT_BE_NULL, "map"));
+        Objects.requireNonNull(bean, String.format(Tips.PARAMS_CANNOT_BE_NULL, "bean"));
+        BeanProperties.of(bean.getClass()).populate(map, bean, null);
+    }
+
+    /**
+     * 将Map中的值写入对象的同名属性，根据转换器转换属性值
+     *
+     * @param map 属性名与属性值
+     * @param bean 对象
+     * @param converter 转换器
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static void fromMap(Map<String, ?> map, Object bean, Converter converter) {
+        Objects.requireNonNull(map, String.format(Tips.PARAMS_CANNOT_BE_NULL, "map"));
+        Objects.requireNonNull(bean, String.format(Tips.PARAMS_CANNOT_BE_NULL, "bean"));
+        Objects.requireNonNull(converter, String.format(Tips.PARAMS_CANNOT_BE_NULL, "converter"));
+        BeanProperties.of(bean.getClass()).populate(map, bean, converter);
+    }
+
+    private static final class CopierKey {
+        private final Class<?> targetClass;
+        private final boolean useConverter;
+        private final CopierEngine engine;
+
+        private CopierKey(Class<?> targetClass, boolean useConverter, CopierEngine engine) {
+            this.targetClass = targetClass;
+            this.useConverter = useConverter;
+            this.engine = engine;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CopierKey)) {
+                return false;
+            }
+            CopierKey that = (CopierKey) o;
+            return targetClass == that.targetClass && useConverter == that.useConverter && engine == that.engine;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = targetClass.hashCode();
+            result = 31 * result + (useConverter ? 1 : 0);
+            return 31 * result + engine.ordinal();
+        }
     }
 }
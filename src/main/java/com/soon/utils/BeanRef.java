@@ -0,0 +1,166 @@
+package com.soon.utils;
+
+import com.soon.utils.consts.Logs;
+import com.soon.utils.consts.Tips;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * bean的引用，可以在上下文初始化之前声明为静态常量，第一次使用时从上下文中解析，之后直接读取字段
+ * 上下文刷新或关闭后重新解析；非单例的bean每次都从上下文获取
+ * 例如：
+ * private static final BeanRef<UserService> USER_SERVICE = BeanRef.of(UserService.class);
+ * USER_SERVICE.get().findById(id);
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public final class BeanRef<T> {
+    private static final Logger log = LoggerFactory.getLogger(BeanRef.class);
+
+    /**
+     * 已声明的引用，被回收的引用（例如卸载的类中声明的常量）在声明新引用时通过QUEUE清除
+     */
+    private static final Set<Reference<? extends BeanRef<?>>> REFS = ConcurrentHashMap.newKeySet();
+    private static final ReferenceQueue<BeanRef<?>> QUEUE = new ReferenceQueue<>();
+
+    private final Class<T> type;
+    private final String name;
+    private volatile Resolved<T> resolved;
+
+    private BeanRef(Class<T> type, String name) {
+        this.type = type;
+        this.name = name;
+    }
+
+    /**
+     * 按类型引用bean
+     *
+     * @param type bean的类型
+     * @return com.soon.utils.BeanRef<T> 引用
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static <T> BeanRef<T> of(Class<T> type) {
+        Objects.requireNonNull(type, String.format(Tips.PARAMS_CANNOT_BE_NULL, "type"));
+        return register(new BeanRef<>(type, null));
+    }
+
+    /**
+     * 按名称引用bean
+     *
+     * @param name bean的名称
+     * @param type bean的类型
+     * @return com.soon.utils.BeanRef<T> 引用
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static <T> BeanRef<T> of(String name, Class<T> type) {
+        Objects.requireNonNull(name, String.format(Tips.PARAMS_CANNOT_BE_NULL, "name"));
+        Objects.requireNonNull(type, String.format(Tips.PARAMS_CANNOT_BE_NULL, "type"));
+        return register(new BeanRef<>(type, name));
+    }
+
+    /**
+     * 获取bean
+     *
+     * @return T bean
+     * @throws IllegalStateException 上下文尚未初始化时抛出
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public T get() {
+        Resolved<T> current = resolved;
+        if (current != null && current.generation == ApplicationContextUtils.getGeneration()) {
+            return current.value;
+        }
+        return resolve();
+    }
+
+    /**
+     * 是否已解析并缓存
+     *
+     * @return boolean
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public boolean isResolved() {
+        Resolved<T> current = resolved;
+        return current != null && current.generation == ApplicationContextUtils.getGeneration();
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private T resolve() {
+        if (!ApplicationContextUtils.isInitialized()) {
+            throw new IllegalStateException("应用上下文尚未初始化，无法获取bean：" + (name == null ? type.getName() : name));
+        }
+        int generation = ApplicationContextUtils.getGeneration();
+        T bean;
+        boolean singleton;
+        if (name == null) {
+            bean = ApplicationContextUtils.getBean(type);
+            singleton = ApplicationContextUtils.isSingleton(type);
+        } else {
+            bean = type.cast(ApplicationContextUtils.getBean(name));
+            singleton = ApplicationContextUtils.isSingleton(name);
+        }
+        if (singleton) {
+            resolved = new Resolved<>(generation, bean);
+        }
+        return bean;
+    }
+
+    private static <T> BeanRef<T> register(BeanRef<T> ref) {
+        Reference<? extends BeanRef<?>> cleared;
+        while ((cleared = QUEUE.poll()) != null) {
+            REFS.remove(cleared);
+        }
+        REFS.add(new WeakReference<BeanRef<?>>(ref, QUEUE));
+        return ref;
+    }
+
+    static int registeredCount() {
+        return REFS.size();
+    }
+
+    /**
+     * 解析所有已声明的引用，解析失败的引用记录日志后保持未解析，使用时再抛出异常，不影响上下文的刷新
+     */
+    static void warmUpAll() {
+        for (Reference<? extends BeanRef<?>> reference : REFS) {
+            BeanRef<?> ref = reference.get();
+            if (ref == null) {
+                continue;
+            }
+            try {
+                ref.get();
+            } catch (RuntimeException e) {
+                log.warn(Logs.BEAN_REF_WARM_UP_LOG, ref.name == null ? ref.type.getName() : ref.name, e);
+            }
+        }
+    }
+
+    private static final class Resolved<T> {
+        private final int generation;
+        private final T value;
+
+        private Resolved(int generation, T value) {
+            this.generation = generation;
+            this.value = value;
+        }
+    }
+}
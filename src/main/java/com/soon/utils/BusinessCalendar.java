@@ -0,0 +1,364 @@
+package com.soon.utils;
+
+import com.soon.utils.consts.Tips;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 工作日日历
+ * 每年预先计算一个366位的位图，第n位表示当年第n+1天是否为工作日，
+ * isBusinessDay为O(1)，businessDaysBetween按64位一组统计位数
+ * 节假日文件格式：
+ * 每行一个日期（yyyy-MM-dd）表示节假日，以"+"开头表示调休的工作日，以"#"开头为注释，例如：
+ * 2021-10-01
+ * +2021-10-09
+ * 线程安全，可以通过reload热加载节假日，加载过程中读取到的仍然是旧的日历
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public class BusinessCalendar {
+    private static final int WORDS_PER_YEAR = 6;
+
+    /**
+     * 参数为空的提示，预先生成
+     */
+    private static final String NULL_DATE = String.format(Tips.PARAMS_CANNOT_BE_NULL, "date");
+    private static final String NULL_START_INCLUSIVE = String.format(Tips.PARAMS_CANNOT_BE_NULL, "startInclusive");
+    private static final String NULL_END_EXCLUSIVE = String.format(Tips.PARAMS_CANNOT_BE_NULL, "endExclusive");
+
+    private final Set<DayOfWeek> weekend;
+    private volatile Snapshot snapshot;
+
+    private BusinessCalendar(Set<DayOfWeek> weekend, Snapshot snapshot) {
+        this.weekend = weekend;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * 创建以周六周日为休息日、没有节假日的日历
+     *
+     * @return com.soon.utils.BusinessCalendar 日历
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static BusinessCalendar create() {
+        return create(EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+    }
+
+    /**
+     * 创建没有节假日的日历
+     *
+     * @param weekend 每周的休息日
+     * @return com.soon.utils.BusinessCalendar 日历
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static BusinessCalendar create(Set<DayOfWeek> weekend) {
+        Objects.requireNonNull(weekend, String.format(Tips.PARAMS_CANNOT_BE_NULL, "weekend"));
+        if (weekend.size() >= DayOfWeek.values().length) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "weekend"));
+        }
+        Set<DayOfWeek> days = weekend.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekend);
+        return new BusinessCalendar(days, new Snapshot(days, Collections.emptyList(), Collections.emptyList()));
+    }
+
+    /**
+     * 创建以周六周日为休息日的日历，并加载节假日文件
+     *
+     * @param holidayFile 节假日文件
+     * @return com.soon.utils.BusinessCalendar 日历
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static BusinessCalendar load(Path holidayFile) throws IOException {
+        BusinessCalendar calendar = create();
+        calendar.reload(holidayFile);
+        return calendar;
+    }
+
+    /**
+     * 重新加载节假日文件，替换当前所有的节假日和调休工作日
+     *
+     * @param holidayFile 节假日文件
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public void reload(Path holidayFile) throws IOException {
+        Objects.requireNonNull(holidayFile, String.format(Tips.PARAMS_CANNOT_BE_NULL, "holidayFile"));
+        List<LocalDate> holidays = new ArrayList<>();
+        List<LocalDate> workdays = new ArrayList<>();
+        List<String> lines = Files.readAllLines(holidayFile, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (StringUtils.isEmpty(line) || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                if (line.startsWith("+")) {
+                    workdays.add(LocalDate.parse(line.substring(1).trim()));
+                } else {
+                    holidays.add(LocalDate.parse(line));
+                }
+            } catch (DateTimeParseException e) {
+                throw new IOException(String.format(Tips.ILLEGAL_PARAMETER, holidayFile + ":" + (i + 1)), e);
+            }
+        }
+        reload(holidays, workdays);
+    }
+
+    /**
+     * 重新加载节假日，替换当前所有的节假日和调休工作日
+     *
+     * @param holidays 节假日
+     * @param workdays 调休的工作日，优先于休息日和节假日
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public void reload(Collection<LocalDate> holidays, Collection<LocalDate> workdays) {
+        Objects.requireNonNull(holidays, String.format(Tips.PARAMS_CANNOT_BE_NULL, "holidays"));
+        Objects.requireNonNull(workdays, String.format(Tips.PARAMS_CANNOT_BE_NULL, "workdays"));
+        snapshot = new Snapshot(weekend, holidays, workdays);
+    }
+
+    /**
+     * 是否为工作日
+     *
+     * @param date 日期
+     * @return boolean 是否为工作日
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public boolean isBusinessDay(LocalDate date) {
+        Objects.requireNonNull(date, NULL_DATE);
+        long[] bits = snapshot.year(date.getYear()).bits;
+        int index = date.getDayOfYear() - 1;
+        return (bits[index >>> 6] & 1L << index) != 0;
+    }
+
+    /**
+     * 统计区间内的工作日数量
+     *
+     * @param startInclusive 开始日期（包含）
+     * @param endExclusive 结束日期（不包含）
+     * @return long 工作日数量，结束日期早于开始日期时为负数
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long businessDaysBetween(LocalDate startInclusive, LocalDate endExclusive) {
+        Objects.requireNonNull(startInclusive, NULL_START_INCLUSIVE);
+        Objects.requireNonNull(endExclusive, NULL_END_EXCLUSIVE);
+        if (endExclusive.isBefore(startInclusive)) {
+            return -businessDaysBetween(endExclusive, startInclusive);
+        }
+        Snapshot current = snapshot;
+        int startYear = startInclusive.getYear();
+        int endYear = endExclusive.getYear();
+        int from = startInclusive.getDayOfYear() - 1;
+        int to = endExclusive.getDayOfYear() - 1;
+        if (startYear == endYear) {
+            return count(current.year(startYear).bits, from, to);
+        }
+        YearBits first = current.year(startYear);
+        long total = count(first.bits, from, first.length);
+        for (int year = startYear + 1; year < endYear; year++) {
+            total += current.year(year).count;
+        }
+        return total + count(current.year(endYear).bits, 0, to);
+    }
+
+    /**
+     * 计算若干个工作日之后的日期
+     * 例如：周五加1个工作日为下周一；days为0时返回原日期
+     *
+     * @param date 日期
+     * @param days 工作日数量，可以为负数
+     * @return java.time.LocalDate 对应的工作日
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public LocalDate plusBusinessDays(LocalDate date, long days) {
+        Objects.requireNonNull(date, NULL_DATE);
+        if (days == 0) {
+            return date;
+        }
+        Snapshot current = snapshot;
+        int year = date.getYear();
+        if (days > 0) {
+            long remaining = days;
+            int from = date.getDayOfYear();
+            while (true) {
+                YearBits bits = current.year(year);
+                long available = count(bits.bits, from, bits.length);
+                if (remaining <= available) {
+                    return LocalDate.ofYearDay(year, forward(bits.bits, from, remaining) + 1);
+                }
+                remaining -= available;
+                year++;
+                from = 0;
+            }
+        }
+        long remaining = -days;
+        int to = date.getDayOfYear() - 1;
+        while (true) {
+            YearBits bits = current.year(year);
+            long available = count(bits.bits, 0, to);
+            if (remaining <= available) {
+                return LocalDate.ofYearDay(year, backward(bits.bits, to, remaining) + 1);
+            }
+            remaining -= available;
+            year--;
+            to = current.year(year).length;
+        }
+    }
+
+    /**
+     * 统计[from, to)内为1的位数
+     */
+    private static long count(long[] bits, int from, int to) {
+        if (from >= to) {
+            return 0;
+        }
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (firstWord == lastWord) {
+            return Long.bitCount(bits[firstWord] & firstMask & lastMask);
+        }
+        long total = Long.bitCount(bits[firstWord] & firstMask);
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            total += Long.bitCount(bits[i]);
+        }
+        return total + Long.bitCount(bits[lastWord] & lastMask);
+    }
+
+    /**
+     * 从from开始向后找第n个为1的位，调用前需保证存在
+     */
+    private static int forward(long[] bits, int from, long n) {
+        int word = from >>> 6;
+        long value = bits[word] & -1L << from;
+        long remaining = n;
+        while (true) {
+            int count = Long.bitCount(value);
+            if (remaining <= count) {
+                for (long i = 1; i < remaining; i++) {
+                    value &= value - 1;
+                }
+                return (word << 6) + Long.numberOfTrailingZeros(value);
+            }
+            remaining -= count;
+            value = bits[++word];
+        }
+    }
+
+    /**
+     * 从to（不包含）开始向前找第n个为1的位，调用前需保证存在
+     */
+    private static int backward(long[] bits, int to, long n) {
+        int word = (to - 1) >>> 6;
+        long value = bits[word] & -1L >>> -to;
+        long remaining = n;
+        while (true) {
+            int count = Long.bitCount(value);
+            if (remaining <= count) {
+                for (long i = 1; i < remaining; i++) {
+                    value &= ~Long.highestOneBit(value);
+                }
+                return (word << 6) + 63 - Long.numberOfLeadingZeros(value);
+            }
+            remaining -= count;
+            value = bits[--word];
+        }
+    }
+
+    /**
+     * 一年的工作日位图
+     */
+    private static final class YearBits {
+        private final long[] bits;
+        private final int length;
+        private final int count;
+
+        private YearBits(long[] bits, int length) {
+            this.bits = bits;
+            this.length = length;
+            int total = 0;
+            for (long word : bits) {
+                total += Long.bitCount(word);
+            }
+            this.count = total;
+        }
+    }
+
+    /**
+     * 某一版本的节假日配置，按年惰性计算位图
+     */
+    private static final class Snapshot {
+        private final boolean[] weekend = new boolean[7];
+        private final Map<Integer, List<LocalDate>> holidays = new HashMap<>();
+        private final Map<Integer, List<LocalDate>> workdays = new HashMap<>();
+        private final ConcurrentMap<Integer, YearBits> years = new ConcurrentHashMap<>();
+
+        private Snapshot(Set<DayOfWeek> weekend, Collection<LocalDate> holidays, Collection<LocalDate> workdays) {
+            for (DayOfWeek day : weekend) {
+                this.weekend[day.getValue() - 1] = true;
+            }
+            for (LocalDate date : holidays) {
+                this.holidays.computeIfAbsent(date.getYear(), k -> new ArrayList<>()).add(date);
+            }
+            for (LocalDate date : workdays) {
+                this.workdays.computeIfAbsent(date.getYear(), k -> new ArrayList<>()).add(date);
+            }
+        }
+
+        private YearBits year(int year) {
+            YearBits bits = years.get(year);
+            if (bits == null) {
+                bits = years.computeIfAbsent(year, this::compute);
+            }
+            return bits;
+        }
+
+        private YearBits compute(int year) {
+            int length = Year.isLeap(year) ? 366 : 365;
+            long[] bits = new long[WORDS_PER_YEAR];
+            int dayOfWeek = LocalDate.of(year, 1, 1).getDayOfWeek().getValue() - 1;
+            for (int i = 0; i < length; i++) {
+                if (!weekend[dayOfWeek]) {
+                    bits[i >>> 6] |= 1L << i;
+                }
+                dayOfWeek = dayOfWeek == 6 ? 0 : dayOfWeek + 1;
+            }
+            for (LocalDate date : holidays.getOrDefault(year, Collections.emptyList())) {
+                int index = date.getDayOfYear() - 1;
+                bits[index >>> 6] &= ~(1L << index);
+            }
+            for (LocalDate date : workdays.getOrDefault(year, Collections.emptyList())) {
+                int index = date.getDayOfYear() - 1;
+                bits[index >>> 6] |= 1L << index;
+            }
+            return new YearBits(bits, length);
+        }
+    }
+}
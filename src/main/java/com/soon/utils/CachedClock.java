@@ -0,0 +1,209 @@
+package com.soon.utils;
+
+import com.soon.utils.consts.Tips;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存时钟
+ * 由后台线程按照固定精度刷新当前时间戳，读取时只读一个volatile字段，适用于日志、计时等高频取时间且允许误差的场景
+ * 可选地缓存秒级精度的 yyyy-MM-dd HH:mm:ss 字符串
+ * 继承自java.time.Clock，测试时可替换为Clock.fixed等实现
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public class CachedClock extends Clock implements AutoCloseable {
+    private final ZoneId zone;
+    private final long resolution;
+    private final boolean formatted;
+    private final boolean shared;
+    private final ScheduledExecutorService ticker;
+    private final char[] buffer = new char[DateTimeCodec.Layout.STANDARD.getLength()];
+    private volatile long millis;
+    private volatile String formattedSecond;
+    private long lastSecond = Long.MIN_VALUE;
+
+    private CachedClock(long resolution, ZoneId zone, boolean formatted, boolean shared) {
+        this.zone = zone;
+        this.resolution = resolution;
+        this.formatted = formatted;
+        this.shared = shared;
+        tick();
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "cached-clock-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ticker.scheduleAtFixedRate(this::tick, resolution, resolution, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 创建并启动缓存时钟，使用系统默认时区，不缓存格式化字符串
+     *
+     * @param resolution 刷新间隔（毫秒），即时钟精度
+     * @return com.soon.utils.CachedClock 缓存时钟
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static CachedClock create(long resolution) {
+        return create(resolution, ZoneId.systemDefault(), false);
+    }
+
+    /**
+     * 创建并启动缓存时钟
+     *
+     * @param resolution 刷新间隔（毫秒），即时钟精度
+     * @param zone 时区
+     * @param formatted 是否缓存 yyyy-MM-dd HH:mm:ss 格式的字符串
+     * @return com.soon.utils.CachedClock 缓存时钟
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static CachedClock create(long resolution, ZoneId zone, boolean formatted) {
+        if (resolution <= 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "resolution"));
+        }
+        Objects.requireNonNull(zone, String.format(Tips.PARAMS_CANNOT_BE_NULL, "zone"));
+        return new CachedClock(resolution, zone, formatted, false);
+    }
+
+    /**
+     * 创建全局共享的缓存时钟，close()不会停止刷新
+     */
+    static CachedClock createShared(long resolution, ZoneId zone, boolean formatted) {
+        if (resolution <= 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "resolution"));
+        }
+        return new CachedClock(resolution, zone, formatted, true);
+    }
+
+    /**
+     * 刷新时间，只在后台线程中调用
+     * scheduleAtFixedRate中抛出的异常会终止后续的刷新，因此格式化失败时保留上一秒的字符串，时间戳照常刷新
+     */
+    private void tick() {
+        long now = System.currentTimeMillis();
+        if (formatted) {
+            long second = Math.floorDiv(now, 1000L);
+            if (second != lastSecond) {
+                try {
+                    ZoneOffset offset = zone.getRules().getOffset(Instant.ofEpochMilli(now));
+                    DateTimeCodec.formatEpochMilli(second * 1000L, offset, DateTimeCodec.Layout.STANDARD, buffer, 0);
+                    formattedSecond = new String(buffer);
+                } catch (RuntimeException e) {
+                    // 超出1-9999年等无法格式化的情况，下一秒重试
+                }
+                lastSecond = second;
+            }
+        }
+        millis = now;
+    }
+
+    @Override
+    public long millis() {
+        return millis;
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * 返回使用指定时区的时钟，与当前时钟共享刷新线程，不提供格式化字符串
+     *
+     * @param zone 时区
+     * @return java.time.Clock 时钟
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    @Override
+    public Clock withZone(ZoneId zone) {
+        Objects.requireNonNull(zone, String.format(Tips.PARAMS_CANNOT_BE_NULL, "zone"));
+        if (zone.equals(this.zone)) {
+            return this;
+        }
+        return new ZonedView(this, zone);
+    }
+
+    /**
+     * 获取秒级精度的 yyyy-MM-dd HH:mm:ss 字符串
+     *
+     * @return java.lang.String
+     *         格式化后的时间
+     *         null 创建时未开启缓存格式化字符串
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public String getFormatted() {
+        return formattedSecond;
+    }
+
+    /**
+     * 获取刷新间隔
+     *
+     * @return long 刷新间隔（毫秒）
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long getResolution() {
+        return resolution;
+    }
+
+    /**
+     * 停止刷新，之后读取到的是最后一次刷新的时间
+     * 对{@link DateTimeUtils#getCachedClock()}返回的全局时钟无效，避免误关闭后冻结全局时间
+     *
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    @Override
+    public void close() {
+        if (!shared) {
+            ticker.shutdownNow();
+        }
+    }
+
+    private static final class ZonedView extends Clock {
+        private final CachedClock source;
+        private final ZoneId zone;
+
+        private ZonedView(CachedClock source, ZoneId zone) {
+            this.source = source;
+            this.zone = zone;
+        }
+
+        @Override
+        public long millis() {
+            return source.millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(source.millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return source.withZone(zone);
+        }
+    }
+}
@@ -1,9 +1,31 @@
 package com.soon.utils;
 
+import com.soon.utils.consts.Tips;
+
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.StringTokenizer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
 
 /**
  * 控制台执行工具
@@ -15,7 +37,37 @@ public class ConsoleExecutor {
     private ConsoleExecutor() {}
 
     /**
-     * 执行命令
+     * 读取输出、等待进程结束的线程池，大部分时间阻塞在IO上，支持时使用虚拟线程
+     */
+    private static final ExecutorService IO_EXECUTOR = ThreadPools.newIoExecutor("console-executor-io");
+
+    /**
+     * 超时结束进程后等待输出读完的最长时间（毫秒）
+     * 脱离进程树的孙进程（例如后台运行后父进程已退出）仍持有管道时，输出流不会结束，超过该时间后关闭流并放弃剩余的输出
+     */
+    private static final long DRAIN_MILLIS_AFTER_KILL = 2000L;
+
+    /**
+     * Process.descendants()与ProcessHandle.destroyForcibly()，Java 9及以上才有，用于结束整个进程树
+     */
+    private static final Method DESCENDANTS;
+    private static final Method DESTROY_HANDLE;
+
+    static {
+        Method descendants = null;
+        Method destroyHandle = null;
+        try {
+            descendants = Process.class.getMethod("descendants");
+            destroyHandle = Class.forName("java.lang.ProcessHandle").getMethod("destroyForcibly");
+        } catch (ReflectiveOperationException e) {
+            // Java 8 只能结束直接子进程
+        }
+        DESCENDANTS = descendants;
+        DESTROY_HANDLE = destroyHandle;
+    }
+
+    /**
+     * 执行命令，等待进程结束并返回标准输出，标准错误会被同时读取并丢弃
      *
      * @param cmd 命令
      * @return java.lang.String 控制台日志
@@ -23,15 +75,448 @@ public class ConsoleExecutor {
      * @since 2021/6/28 11:46
      */
     public static String execute(String cmd) throws IOException {
-        Process process = Runtime.getRuntime().exec(cmd);
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-            StringBuilder sb = new StringBuilder();
-            String line = "";
-            while(!Objects.isNull(line)) {
-                line = reader.readLine();
-                sb.append(line);
-            }
-            return sb.toString();
+        try {
+            return executeAsync(cmd, 0L).get().getStdout();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * 异步执行命令，命令按空白字符拆分（与Runtime.exec(String)一致）
+     *
+     * @param cmd 命令
+     * @param timeoutMillis 超时时间（毫秒），超时后强制结束进程及其子进程，小于等于0时不超时
+     * @return java.util.concurrent.CompletableFuture<com.soon.utils.ProcessResult> 执行结果，进程启动失败时以IOException异常完成
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static CompletableFuture<ProcessResult> executeAsync(String cmd, long timeoutMillis) {
+        Objects.requireNonNull(cmd, String.format(Tips.PARAMS_CANNOT_BE_NULL, "cmd"));
+        return executeAsync(tokenize(cmd), timeoutMillis);
+    }
+
+    /**
+     * 异步执行命令
+     * 标准输出与标准错误同时读取，避免子进程写满管道后阻塞；等待在后台线程中进行，不占用调用线程；
+     * 取消返回的Future时强制结束进程及其子进程（streamLines等方法相同）
+     * 例如：
+     * ConsoleExecutor.executeAsync(Arrays.asList("ffmpeg", "-i", src, dest), 60_000L)
+     *         .thenAccept(result -> log.info("exit {} in {}ms", result.getExitCode(), result.getWallTimeMillis()));
+     *
+     * @param command 命令及参数
+     * @param timeoutMillis 超时时间（毫秒），超时后强制结束进程及其子进程，小于等于0时不超时；
+     *                      结束后最多再等待2秒读取剩余输出，仍未读完（管道被脱离进程树的孙进程持有）时该流的结果为空字符串
+     * @return java.util.concurrent.CompletableFuture<com.soon.utils.ProcessResult> 执行结果，进程启动失败时以IOException异常完成
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static CompletableFuture<ProcessResult> executeAsync(List<String> command, long timeoutMillis) {
+        Objects.requireNonNull(command, String.format(Tips.PARAMS_CANNOT_BE_NULL, "command"));
+        checkCommand(command);
+        return start(command, timeoutMillis, ConsoleExecutor::readAll, ConsoleExecutor::readAll, null);
+    }
+
+    /**
+     * 异步执行命令，owner被取消时强制结束进程；返回的Future在进程真正退出后才完成，供进程池据此释放名额
+     */
+    static CompletableFuture<ProcessResult> executeAsync(List<String> command, long timeoutMillis,
+                                                         CompletableFuture<?> owner) {
+        return start(command, timeoutMillis, ConsoleExecutor::readAll, ConsoleExecutor::readAll, owner);
+    }
+
+    /**
+     * 异步执行命令，逐行回调标准输出与标准错误
+     * 回调在读取输出的线程中同步执行，回调处理慢时停止读取，子进程写满管道后会阻塞等待（背压）；
+     * 两个流在不同线程中回调，listener需要线程安全。结果中只保留每个流最后tailBytes字节，避免输出过多时占满内存
+     * 例如：
+     * ConsoleExecutor.streamLines(Arrays.asList("ffmpeg", "-i", src, dest), 600_000L,
+     *         (stderr, line) -> progress.update(line), 64 * 1024);
+     *
+     * @param command 命令及参数
+     * @param timeoutMillis 超时时间（毫秒），超时后强制结束进程及其子进程，小于等于0时不超时
+     * @param listener 行回调，不包含换行符
+     * @param tailBytes 结果中保留的每个流最后的字节数
+     * @return java.util.concurrent.CompletableFuture<com.soon.utils.ProcessResult> 执行结果，stdout与stderr为各自的末尾内容
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static CompletableFuture<ProcessResult> streamLines(List<String> command, long timeoutMillis,
+                                                               LineListener listener, int tailBytes) {
+        Objects.requireNonNull(command, String.format(Tips.PARAMS_CANNOT_BE_NULL, "command"));
+        Objects.requireNonNull(listener, String.format(Tips.PARAMS_CANNOT_BE_NULL, "listener"));
+        checkCommand(command);
+        checkTailBytes(tailBytes);
+        return start(command, timeoutMillis, in -> readLines(in, false, listener, tailBytes),
+                in -> readLines(in, true, listener, tailBytes), null);
+    }
+
+    /**
+     * 异步执行命令，按读取到的字节块回调标准输出与标准错误，不做解码
+     * 回调规则同{@link #streamLines(List, long, LineListener, int)}，回调返回后缓冲区会被复用，需要保留时自行拷贝
+     *
+     * @param command 命令及参数
+     * @param timeoutMillis 超时时间（毫秒），超时后强制结束进程及其子进程，小于等于0时不超时
+     * @param listener 字节块回调
+     * @param tailBytes 结果中保留的每个流最后的字节数
+     * @return java.util.concurrent.CompletableFuture<com.soon.utils.ProcessResult> 执行结果，stdout与stderr为各自的末尾内容
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static CompletableFuture<ProcessResult> streamChunks(List<String> command, long timeoutMillis,
+                                                                ChunkListener listener, int tailBytes) {
+        Objects.requireNonNull(command, String.format(Tips.PARAMS_CANNOT_BE_NULL, "command"));
+        Objects.requireNonNull(listener, String.format(Tips.PARAMS_CANNOT_BE_NULL, "listener"));
+        checkCommand(command);
+        checkTailBytes(tailBytes);
+        return start(command, timeoutMillis, in -> readChunks(in, false, listener, tailBytes),
+                in -> readChunks(in, true, listener, tailBytes), null);
+    }
+
+    /**
+     * 异步执行命令，标准输出原样写入文件（不解码），标准错误只保留最后tailBytes字节
+     * 适用于输出本身就是结果的命令，例如导出数据、生成图片到标准输出
+     *
+     * @param command 命令及参数
+     * @param timeoutMillis 超时时间（毫秒），超时后强制结束进程及其子进程，小于等于0时不超时
+     * @param stdoutFile 标准输出写入的文件，已存在时覆盖
+     * @param tailBytes 结果中保留的标准错误最后的字节数
+     * @return java.util.concurrent.CompletableFuture<com.soon.utils.ProcessResult> 执行结果，stdout为空字符串
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static CompletableFuture<ProcessResult> executeToFile(List<String> command, long timeoutMillis,
+                                                                 Path stdoutFile, int tailBytes) {
+        Objects.requireNonNull(command, String.format(Tips.PARAMS_CANNOT_BE_NULL, "command"));
+        Objects.requireNonNull(stdoutFile, String.format(Tips.PARAMS_CANNOT_BE_NULL, "stdoutFile"));
+        checkCommand(command);
+        checkTailBytes(tailBytes);
+        return start(command, timeoutMillis, in -> transferTo(in, stdoutFile),
+                in -> readChunks(in, true, null, tailBytes), null);
+    }
+
+    private static CompletableFuture<ProcessResult> start(List<String> command, long timeoutMillis,
+                                                          Drainer stdoutDrainer, Drainer stderrDrainer,
+                                                          CompletableFuture<?> owner) {
+        long startNanos = System.nanoTime();
+        Process process;
+        try {
+            process = new ProcessBuilder(command).start();
+            process.getOutputStream().close();
+        } catch (IOException e) {
+            CompletableFuture<ProcessResult> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        CompletableFuture<String> stdout = drain(process.getInputStream(), stdoutDrainer);
+        CompletableFuture<String> stderr = drain(process.getErrorStream(), stderrDrainer);
+        CompletableFuture<ProcessResult> result = CompletableFuture.supplyAsync(() -> {
+            boolean timedOut = !await(process, timeoutMillis);
+            if (timedOut) {
+                destroyTree(process);
+            }
+            int exitCode = awaitExit(process);
+            if (!timedOut) {
+                return new ProcessResult(exitCode, stdout.join(), stderr.join(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), false);
+            }
+            long drainDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DRAIN_MILLIS_AFTER_KILL);
+            String out = joinAfterKill(stdout, process.getInputStream(), drainDeadline);
+            String err = joinAfterKill(stderr, process.getErrorStream(), drainDeadline);
+            return new ProcessResult(exitCode, out, err,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), true);
+        }, IO_EXECUTOR);
+        CompletableFuture<?> cancellable = owner != null ? owner : result;
+        cancellable.whenComplete((r, e) -> {
+            if (cancellable.isCancelled()) {
+                destroyTree(process);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 进程被强制结束后，在截止时间前等待输出读完；超时后关闭流，返回空字符串
+     */
+    private static String joinAfterKill(CompletableFuture<String> output, InputStream in, long deadlineNanos) {
+        try {
+            return output.get(Math.max(deadlineNanos - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException e) {
+            // 管道仍被其他进程持有
+        }
+        try {
+            in.close();
+        } catch (IOException e) {
+            // 忽略，读取线程会在管道关闭后结束
+        }
+        return "";
+    }
+
+    /**
+     * 强制结束进程及其所有子进程，Java 8 下只能结束进程本身
+     *
+     * @param process 进程
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static void destroyTree(Process process) {
+        Objects.requireNonNull(process, String.format(Tips.PARAMS_CANNOT_BE_NULL, "process"));
+        if (DESCENDANTS != null) {
+            try {
+                // 先收集子进程再结束父进程，父进程结束后子进程会被过继，无法再找到
+                Object[] handles = ((Stream<?>) DESCENDANTS.invoke(process)).toArray();
+                for (Object handle : handles) {
+                    DESTROY_HANDLE.invoke(handle);
+                }
+            } catch (ReflectiveOperationException e) {
+                // 无法访问时只结束进程本身
+            }
+        }
+        process.destroyForcibly();
+    }
+
+    private static CompletableFuture<String> drain(InputStream in, Drainer drainer) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (InputStream input = in) {
+                return drainer.drain(input);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, IO_EXECUTOR);
+    }
+
+    private static String readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), Charset.defaultCharset());
+    }
+
+    private static String readLines(InputStream in, boolean stderr, LineListener listener, int tailBytes)
+            throws IOException {
+        TailBuffer tail = new TailBuffer(tailBytes);
+        InputStream tee = new FilterInputStream(in) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b != -1) {
+                    tail.write(b);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = super.read(b, off, len);
+                if (read > 0) {
+                    tail.write(b, off, read);
+                }
+                return read;
+            }
+        };
+        BufferedReader reader = new BufferedReader(new InputStreamReader(tee, Charset.defaultCharset()));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            listener.onLine(stderr, line);
+        }
+        return tail.toString();
+    }
+
+    private static String readChunks(InputStream in, boolean stderr, ChunkListener listener, int tailBytes)
+            throws IOException {
+        TailBuffer tail = new TailBuffer(tailBytes);
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            tail.write(buffer, 0, read);
+            if (listener != null) {
+                listener.onChunk(stderr, buffer, read);
+            }
+        }
+        return tail.toString();
+    }
+
+    private static String transferTo(InputStream in, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                ByteBuffer wrapper = ByteBuffer.wrap(buffer, 0, read);
+                while (wrapper.hasRemaining()) {
+                    channel.write(wrapper);
+                }
+            }
+        }
+        return "";
+    }
+
+    /**
+     * 等待进程结束
+     *
+     * @return boolean 是否在超时前结束
+     */
+    private static boolean await(Process process, long timeoutMillis) {
+        try {
+            if (timeoutMillis <= 0) {
+                process.waitFor();
+                return true;
+            }
+            return process.waitFor(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static int awaitExit(Process process) {
+        boolean interrupted = false;
+        try {
+            for (;;) {
+                try {
+                    return process.waitFor();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void checkCommand(List<String> command) {
+        if (command.isEmpty()) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "command"));
+        }
+    }
+
+    private static void checkTailBytes(int tailBytes) {
+        if (tailBytes < 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "tailBytes"));
+        }
+    }
+
+    private static List<String> tokenize(String cmd) {
+        StringTokenizer tokenizer = new StringTokenizer(cmd);
+        if (!tokenizer.hasMoreTokens()) {
+            return Collections.emptyList();
+        }
+        List<String> command = new ArrayList<>();
+        while (tokenizer.hasMoreTokens()) {
+            command.add(tokenizer.nextToken());
+        }
+        return command;
+    }
+
+    /**
+     * 行回调
+     *
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    @FunctionalInterface
+    public interface LineListener {
+        /**
+         * 读取到一行输出
+         *
+         * @param stderr 是否来自标准错误
+         * @param line 一行内容，不包含换行符
+         * @author HuYiGong
+         * @since 2026/10/19
+         */
+        void onLine(boolean stderr, String line);
+    }
+
+    /**
+     * 字节块回调
+     *
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    @FunctionalInterface
+    public interface ChunkListener {
+        /**
+         * 读取到一块输出
+         *
+         * @param stderr 是否来自标准错误
+         * @param buffer 缓冲区，回调返回后会被复用
+         * @param length 有效长度
+         * @author HuYiGong
+         * @since 2026/10/19
+         */
+        void onChunk(boolean stderr, byte[] buffer, int length);
+    }
+
+    @FunctionalInterface
+    private interface Drainer {
+        String drain(InputStream in) throws IOException;
+    }
+
+    /**
+     * 环形缓冲区，只保留最后写入的capacity个字节
+     */
+    static final class TailBuffer {
+        private final byte[] buffer;
+        private long written;
+
+        TailBuffer(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        void write(int b) {
+            if (buffer.length > 0) {
+                buffer[(int) (written % buffer.length)] = (byte) b;
+            }
+            written++;
+        }
+
+        void write(byte[] b, int off, int len) {
+            int capacity = buffer.length;
+            if (capacity == 0) {
+                written += len;
+                return;
+            }
+            if (len >= capacity) {
+                off += len - capacity;
+                written += len - capacity;
+                len = capacity;
+            }
+            int position = (int) (written % capacity);
+            int first = Math.min(len, capacity - position);
+            System.arraycopy(b, off, buffer, position, first);
+            System.arraycopy(b, off + first, buffer, 0, len - first);
+            written += len;
+        }
+
+        @Override
+        public String toString() {
+            int capacity = buffer.length;
+            if (capacity == 0) {
+                return "";
+            }
+            if (written <= capacity) {
+                return new String(buffer, 0, (int) written, Charset.defaultCharset());
+            }
+            int position = (int) (written % capacity);
+            byte[] ordered = new byte[capacity];
+            System.arraycopy(buffer, position, ordered, 0, capacity - position);
+            System.arraycopy(buffer, 0, ordered, capacity - position, position);
+            return new String(ordered, Charset.defaultCharset());
         }
     }
 
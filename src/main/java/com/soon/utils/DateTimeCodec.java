@@ -0,0 +1,507 @@
+package com.soon.utils;
+
+import com.soon.utils.consts.Tips;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 固定格式的日期时间编解码
+ * 直接读写char[]或ASCII字节，不经过DateTimeFormatter，结果与对应pattern的DateTimeFormatter一致
+ * 只处理1-9999年，输入不是标准格式时交给DateTimeFormatter解析，异常也与其一致
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public class DateTimeCodec {
+    private DateTimeCodec() {}
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+    private static final int DAYS_PER_CYCLE = 146_097;
+
+    /**
+     * 格式化、解析在热点路径上调用，参数为空的提示预先生成，避免每次调用都执行String.format
+     */
+    private static final String NULL_BUILDER = String.format(Tips.PARAMS_CANNOT_BE_NULL, "builder");
+    private static final String NULL_DATE_TIME = String.format(Tips.PARAMS_CANNOT_BE_NULL, "dateTime");
+    private static final String NULL_TEXT = String.format(Tips.PARAMS_CANNOT_BE_NULL, "text");
+
+    private static final char[] DIGIT_TENS = NumberUtils.DIGIT_TENS;
+    private static final char[] DIGIT_ONES = NumberUtils.DIGIT_ONES;
+
+    /**
+     * 支持的格式
+     */
+    public enum Layout {
+        /**
+         * yyyy-MM-dd HH:mm:ss
+         */
+        STANDARD("yyyy-MM-dd HH:mm:ss", ' ', false),
+
+        /**
+         * yyyy-MM-dd'T'HH:mm:ss
+         */
+        ISO("yyyy-MM-dd'T'HH:mm:ss", 'T', false),
+
+        /**
+         * yyyy-MM-dd'T'HH:mm:ss.SSS
+         */
+        ISO_MILLIS("yyyy-MM-dd'T'HH:mm:ss.SSS", 'T', true);
+
+        private final String pattern;
+        private final char separator;
+        private final boolean millis;
+        private final int length;
+
+        Layout(String pattern, char separator, boolean millis) {
+            this.pattern = pattern;
+            this.separator = separator;
+            this.millis = millis;
+            this.length = millis ? 23 : 19;
+        }
+
+        /**
+         * 获取对应的pattern
+         *
+         * @return java.lang.String pattern
+         * @author HuYiGong
+         * @since 2026/10/19
+         */
+        public String getPattern() {
+            return pattern;
+        }
+
+        /**
+         * 获取格式化后的长度
+         *
+         * @return int 长度
+         * @author HuYiGong
+         * @since 2026/10/19
+         */
+        public int getLength() {
+            return length;
+        }
+
+        /**
+         * 根据pattern获取格式
+         *
+         * @param pattern 格式字符串
+         * @return com.soon.utils.DateTimeCodec.Layout
+         *         格式
+         *         null 不支持的pattern
+         * @author HuYiGong
+         * @since 2026/10/19
+         */
+        public static Layout of(String pattern) {
+            for (Layout layout : values()) {
+                if (layout.pattern.equals(pattern)) {
+                    return layout;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 判断日期时间是否可以快速格式化
+     *
+     * @param dateTime 日期时间
+     * @return boolean 年份在1-9999之间时返回true
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static boolean isSupported(LocalDateTime dateTime) {
+        int year = dateTime.getYear();
+        return year >= 1 && year <= 9999;
+    }
+
+    /**
+     * 格式化
+     *
+     * @param dateTime 日期时间
+     * @param layout 格式
+     * @return java.lang.String 格式化后的时间
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static String format(LocalDateTime dateTime, Layout layout) {
+        char[] buf = new char[layout.length];
+        formatTo(dateTime, layout, buf, 0);
+        return new String(buf);
+    }
+
+    /**
+     * 格式化并追加到StringBuilder中，年份不在1-9999时抛出异常，builder保持不变
+     *
+     * @param builder 输出目标
+     * @param dateTime 日期时间
+     * @param layout 格式
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static void appendTo(StringBuilder builder, LocalDateTime dateTime, Layout layout) {
+        Objects.requireNonNull(builder, NULL_BUILDER);
+        Objects.requireNonNull(dateTime, NULL_DATE_TIME);
+        // 先写入临时数组再一次性追加：失败时builder保持不变，也比逐个setCharAt快得多
+        char[] buf = new char[layout.length];
+        write(buf, 0, layout, dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(),
+                dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano() / 1_000_000);
+        builder.append(buf);
+    }
+
+    /**
+     * 格式化并写入char数组
+     *
+     * @param dateTime 日期时间
+     * @param layout 格式
+     * @param buf 输出数组
+     * @param offset 起始位置
+     * @return int 写入的长度
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static int formatTo(LocalDateTime dateTime, Layout layout, char[] buf, int offset) {
+        Objects.requireNonNull(dateTime, NULL_DATE_TIME);
+        write(buf, offset, layout, dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(),
+                dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano() / 1_000_000);
+        return layout.length;
+    }
+
+    /**
+     * 格式化并以ASCII写入byte数组
+     *
+     * @param dateTime 日期时间
+     * @param layout 格式
+     * @param buf 输出数组
+     * @param offset 起始位置
+     * @return int 写入的长度
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static int formatTo(LocalDateTime dateTime, Layout layout, byte[] buf, int offset) {
+        Objects.requireNonNull(dateTime, NULL_DATE_TIME);
+        write(buf, offset, layout, dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(),
+                dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano() / 1_000_000);
+        return layout.length;
+    }
+
+    /**
+     * 将时间戳按照指定时区偏移格式化并写入char数组，不创建任何对象
+     *
+     * @param epochMilli 时间戳（毫秒）
+     * @param offset 时区偏移
+     * @param layout 格式
+     * @param buf 输出数组
+     * @param position 起始位置
+     * @return int 写入的长度
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static int formatEpochMilli(long epochMilli, ZoneOffset offset, Layout layout, char[] buf, int position) {
+        long localMilli = epochMilli + offset.getTotalSeconds() * 1000L;
+        long epochDay = Math.floorDiv(localMilli, MILLIS_PER_DAY);
+        int milliOfDay = (int) Math.floorMod(localMilli, MILLIS_PER_DAY);
+        long yearMonthDay = civilFromDays(epochDay);
+        int secondOfDay = milliOfDay / 1000;
+        write(buf, position, layout, (int) (yearMonthDay >> 16), (int) (yearMonthDay >> 8) & 0xFF,
+                (int) yearMonthDay & 0xFF, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60,
+                milliOfDay % 1000);
+        return layout.length;
+    }
+
+    /**
+     * 解析
+     *
+     * @param text 日期时间字符串
+     * @param layout 格式
+     * @return java.time.LocalDateTime 日期时间
+     * @author HuYiGong
+     * @since 2026/10/19
+     * @throws DateTimeParseException 无法解析时抛出
+     */
+    public static LocalDateTime parse(CharSequence text, Layout layout) {
+        Objects.requireNonNull(text, NULL_TEXT);
+        if (text.length() == layout.length) {
+            long packed = read(text, 0, layout);
+            if (packed >= 0) {
+                return toLocalDateTime(packed, layout);
+            }
+        }
+        return LocalDateTime.parse(text, formatter(layout));
+    }
+
+    /**
+     * 从ASCII字节中解析，读取layout长度的字节
+     *
+     * @param ascii ASCII字节
+     * @param offset 起始位置
+     * @param layout 格式
+     * @return java.time.LocalDateTime 日期时间
+     * @author HuYiGong
+     * @since 2026/10/19
+     * @throws DateTimeParseException 无法解析时抛出
+     */
+    public static LocalDateTime parse(byte[] ascii, int offset, Layout layout) {
+        long packed = read(ascii, offset, layout);
+        if (packed >= 0) {
+            return toLocalDateTime(packed, layout);
+        }
+        return LocalDateTime.parse(new String(ascii, offset, layout.length, StandardCharsets.ISO_8859_1), formatter(layout));
+    }
+
+    /**
+     * 从ASCII字节中解析为时间戳，读取layout长度的字节，标准格式的输入不会创建任何对象
+     *
+     * @param ascii ASCII字节
+     * @param offset 起始位置
+     * @param layout 格式
+     * @param zoneOffset 时区偏移
+     * @return long 时间戳（毫秒）
+     * @author HuYiGong
+     * @since 2026/10/19
+     * @throws DateTimeParseException 无法解析时抛出
+     */
+    public static long parseEpochMilli(byte[] ascii, int offset, Layout layout, ZoneOffset zoneOffset) {
+        long packed = read(ascii, offset, layout);
+        if (packed < 0) {
+            return parse(ascii, offset, layout).toInstant(zoneOffset).toEpochMilli();
+        }
+        int yearMonthDay = (int) (packed >>> 32);
+        long epochDay = daysFromCivil(yearMonthDay >> 9, (yearMonthDay >> 5) & 0xF, yearMonthDay & 0x1F);
+        long secondOfDay = (packed >>> 10) & 0x1FFFF;
+        return (epochDay * SECONDS_PER_DAY + secondOfDay - zoneOffset.getTotalSeconds()) * 1000L + (packed & 0x3FF);
+    }
+
+    private static DateTimeFormatter formatter(Layout layout) {
+        return DateTimeUtils.getFormatter(layout.pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    private static LocalDateTime toLocalDateTime(long packed, Layout layout) {
+        int yearMonthDay = (int) (packed >>> 32);
+        int secondOfDay = (int) (packed >>> 10) & 0x1FFFF;
+        return LocalDateTime.of(yearMonthDay >> 9, (yearMonthDay >> 5) & 0xF, yearMonthDay & 0x1F,
+                secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60,
+                layout.millis ? (int) (packed & 0x3FF) * 1_000_000 : 0);
+    }
+
+    /**
+     * 读取标准格式的字段，打包为 年(14位)月(4位)日(5位) << 32 | 秒(17位) << 10 | 毫秒(10位)
+     * 输入不是标准格式时返回-1，由DateTimeFormatter处理
+     */
+    private static long read(CharSequence text, int offset, Layout layout) {
+        int year = digits4(text.charAt(offset), text.charAt(offset + 1), text.charAt(offset + 2), text.charAt(offset + 3));
+        int month = digits2(text.charAt(offset + 5), text.charAt(offset + 6));
+        int day = digits2(text.charAt(offset + 8), text.charAt(offset + 9));
+        int hour = digits2(text.charAt(offset + 11), text.charAt(offset + 12));
+        int minute = digits2(text.charAt(offset + 14), text.charAt(offset + 15));
+        int second = digits2(text.charAt(offset + 17), text.charAt(offset + 18));
+        int millis = 0;
+        if (layout.millis) {
+            if (text.charAt(offset + 19) != '.') {
+                return -1;
+            }
+            millis = digits3(text.charAt(offset + 20), text.charAt(offset + 21), text.charAt(offset + 22));
+        }
+        if (text.charAt(offset + 4) != '-' || text.charAt(offset + 7) != '-' || text.charAt(offset + 10) != layout.separator
+                || text.charAt(offset + 13) != ':' || text.charAt(offset + 16) != ':') {
+            return -1;
+        }
+        return pack(year, month, day, hour, minute, second, millis);
+    }
+
+    private static long read(byte[] ascii, int offset, Layout layout) {
+        if (offset < 0 || ascii.length - offset < layout.length) {
+            throw new IndexOutOfBoundsException(String.format(Tips.ILLEGAL_PARAMETER, "offset"));
+        }
+        int year = digits4((char) ascii[offset], (char) ascii[offset + 1], (char) ascii[offset + 2], (char) ascii[offset + 3]);
+        int month = digits2((char) ascii[offset + 5], (char) ascii[offset + 6]);
+        int day = digits2((char) ascii[offset + 8], (char) ascii[offset + 9]);
+        int hour = digits2((char) ascii[offset + 11], (char) ascii[offset + 12]);
+        int minute = digits2((char) ascii[offset + 14], (char) ascii[offset + 15]);
+        int second = digits2((char) ascii[offset + 17], (char) ascii[offset + 18]);
+        int millis = 0;
+        if (layout.millis) {
+            if (ascii[offset + 19] != '.') {
+                return -1;
+            }
+            millis = digits3((char) ascii[offset + 20], (char) ascii[offset + 21], (char) ascii[offset + 22]);
+        }
+        if (ascii[offset + 4] != '-' || ascii[offset + 7] != '-' || ascii[offset + 10] != layout.separator
+                || ascii[offset + 13] != ':' || ascii[offset + 16] != ':') {
+            return -1;
+        }
+        return pack(year, month, day, hour, minute, second, millis);
+    }
+
+    /**
+     * 字段超出范围或日期不存在时返回-1，由DateTimeFormatter按照SMART模式处理
+     */
+    private static long pack(int year, int month, int day, int hour, int minute, int second, int millis) {
+        if ((year | month | day | hour | minute | second | millis) < 0 || year == 0 || month == 0 || month > 12
+                || day == 0 || day > lengthOfMonth(year, month) || hour > 23 || minute > 59 || second > 59) {
+            return -1;
+        }
+        long yearMonthDay = (long) year << 9 | month << 5 | day;
+        return yearMonthDay << 32 | (long) (hour * 3600 + minute * 60 + second) << 10 | millis;
+    }
+
+    private static int digits2(char c1, char c2) {
+        int d1 = c1 - '0';
+        int d2 = c2 - '0';
+        if ((d1 | d2) < 0 || d1 > 9 || d2 > 9) {
+            return -1;
+        }
+        return d1 * 10 + d2;
+    }
+
+    private static int digits3(char c1, char c2, char c3) {
+        int high = digits2(c1, c2);
+        int d3 = c3 - '0';
+        if ((high | d3) < 0 || d3 > 9) {
+            return -1;
+        }
+        return high * 10 + d3;
+    }
+
+    private static int digits4(char c1, char c2, char c3, char c4) {
+        int high = digits2(c1, c2);
+        int low = digits2(c3, c4);
+        if ((high | low) < 0) {
+            return -1;
+        }
+        return high * 100 + low;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        if (month == 2) {
+            return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    private static void checkYear(int year) {
+        if (year < 1 || year > 9999) {
+            throw new DateTimeException(String.format(Tips.ILLEGAL_PARAMETER, "year: " + year));
+        }
+    }
+
+    private static void write(char[] buf, int offset, Layout layout, int year, int month, int day,
+                              int hour, int minute, int second, int millis) {
+        checkYear(year);
+        if (offset < 0 || buf.length - offset < layout.length) {
+            throw new IndexOutOfBoundsException(String.format(Tips.ILLEGAL_PARAMETER, "offset"));
+        }
+        int high = year / 100;
+        int low = year - high * 100;
+        buf[offset] = DIGIT_TENS[high];
+        buf[offset + 1] = DIGIT_ONES[high];
+        buf[offset + 2] = DIGIT_TENS[low];
+        buf[offset + 3] = DIGIT_ONES[low];
+        buf[offset + 4] = '-';
+        buf[offset + 5] = DIGIT_TENS[month];
+        buf[offset + 6] = DIGIT_ONES[month];
+        buf[offset + 7] = '-';
+        buf[offset + 8] = DIGIT_TENS[day];
+        buf[offset + 9] = DIGIT_ONES[day];
+        buf[offset + 10] = layout.separator;
+        buf[offset + 11] = DIGIT_TENS[hour];
+        buf[offset + 12] = DIGIT_ONES[hour];
+        buf[offset + 13] = ':';
+        buf[offset + 14] = DIGIT_TENS[minute];
+        buf[offset + 15] = DIGIT_ONES[minute];
+        buf[offset + 16] = ':';
+        buf[offset + 17] = DIGIT_TENS[second];
+        buf[offset + 18] = DIGIT_ONES[second];
+        if (layout.millis) {
+            buf[offset + 19] = '.';
+            buf[offset + 20] = (char) ('0' + millis / 100);
+            buf[offset + 21] = DIGIT_TENS[millis % 100];
+            buf[offset + 22] = DIGIT_ONES[millis % 100];
+        }
+    }
+
+    private static void write(byte[] buf, int offset, Layout layout, int year, int month, int day,
+                              int hour, int minute, int second, int millis) {
+        checkYear(year);
+        if (offset < 0 || buf.length - offset < layout.length) {
+            throw new IndexOutOfBoundsException(String.format(Tips.ILLEGAL_PARAMETER, "offset"));
+        }
+        int high = year / 100;
+        int low = year - high * 100;
+        buf[offset] = (byte) DIGIT_TENS[high];
+        buf[offset + 1] = (byte) DIGIT_ONES[high];
+        buf[offset + 2] = (byte) DIGIT_TENS[low];
+        buf[offset + 3] = (byte) DIGIT_ONES[low];
+        buf[offset + 4] = '-';
+        buf[offset + 5] = (byte) DIGIT_TENS[month];
+        buf[offset + 6] = (byte) DIGIT_ONES[month];
+        buf[offset + 7] = '-';
+        buf[offset + 8] = (byte) DIGIT_TENS[day];
+        buf[offset + 9] = (byte) DIGIT_ONES[day];
+        buf[offset + 10] = (byte) layout.separator;
+        buf[offset + 11] = (byte) DIGIT_TENS[hour];
+        buf[offset + 12] = (byte) DIGIT_ONES[hour];
+        buf[offset + 13] = ':';
+        buf[offset + 14] = (byte) DIGIT_TENS[minute];
+        buf[offset + 15] = (byte) DIGIT_ONES[minute];
+        buf[offset + 16] = ':';
+        buf[offset + 17] = (byte) DIGIT_TENS[second];
+        buf[offset + 18] = (byte) DIGIT_ONES[second];
+        if (layout.millis) {
+            buf[offset + 19] = '.';
+            buf[offset + 20] = (byte) ('0' + millis / 100);
+            buf[offset + 21] = (byte) DIGIT_TENS[millis % 100];
+            buf[offset + 22] = (byte) DIGIT_ONES[millis % 100];
+        }
+    }
+
+    private static long civilFromDays(long epochDay) {
+        long zeroDay = epochDay + DAYS_0000_TO_1970;
+        zeroDay -= 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;
+        int marchDoy0 = (int) doyEst;
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int dom = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        yearEst += marchMonth0 / 10;
+        return yearEst << 16 | (long) month << 8 | dom;
+    }
+
+    /**
+     * 年月日转纪元日，算法与LocalDate.toEpochDay一致
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = year;
+        long total = 365 * y;
+        total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if ((year & 3) != 0 || (year % 100 == 0 && year % 400 != 0)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+}
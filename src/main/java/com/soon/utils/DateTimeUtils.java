@@ -2,14 +2,23 @@ package com.soon.utils;
 
 import com.soon.utils.consts.Tips;
 
+import java.time.Clock;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAccessor;
 import java.util.Date;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 时间工具类
@@ -19,6 +28,29 @@ import java.util.Objects;
 public class DateTimeUtils {
     private DateTimeUtils() {}
 
+    /**
+     * 每个locale最多缓存的格式化器数量，超过后不再缓存，避免动态拼接的pattern导致内存增长
+     */
+    private static final int MAX_CACHED_FORMATTERS = 256;
+
+    private static final ConcurrentMap<Locale, ConcurrentMap<String, DateTimeFormatter>> FORMATTERS = new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<Locale, DateTimeFormatter> LOCALIZED_FORMATTERS = new ConcurrentHashMap<>();
+
+    /**
+     * 参数为空的提示，格式化、解析方法调用频繁，预先生成避免每次执行String.format
+     */
+    private static final String NULL_DATE_TIME = String.format(Tips.PARAMS_CANNOT_BE_NULL, "dateTime");
+    private static final String NULL_PATTERN = String.format(Tips.PARAMS_CANNOT_BE_NULL, "pattern");
+    private static final String NULL_TEXT = String.format(Tips.PARAMS_CANNOT_BE_NULL, "text");
+    private static final String NULL_APPENDABLE = String.format(Tips.PARAMS_CANNOT_BE_NULL, "appendable");
+    private static final String NULL_LOCALE = String.format(Tips.PARAMS_CANNOT_BE_NULL, "locale");
+
+    /**
+     * 测试时替换的时钟，为null时使用全局缓存时钟
+     */
+    private static volatile Clock clock;
+
     /**
      * 获取参数(date)的开始时间
      * 例如：
@@ -58,12 +90,13 @@ public class DateTimeUtils {
      * @since 2021/3/23
      */
     public static String format(LocalDateTime dateTime) {
-        Objects.requireNonNull(dateTime, String.format(Tips.PARAMS_CANNOT_BE_NULL, "dateTime"));
-        return dateTime.format(DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM));
+        Objects.requireNonNull(dateTime, NULL_DATE_TIME);
+        return getLocalizedFormatter(Locale.getDefault(Locale.Category.FORMAT)).format(dateTime);
     }
 
     /**
      * 根据传入pattern进行格式化
+     * yyyy-MM-dd HH:mm:ss 等固定格式使用{@link DateTimeCodec}格式化
      *
      * @param dateTime 日期时间
      * @param pattern 格式字符串
@@ -72,9 +105,146 @@ public class DateTimeUtils {
      * @since 2021/5/11
      */
     public static String format(LocalDateTime dateTime, String pattern) {
-        Objects.requireNonNull(dateTime, String.format(Tips.PARAMS_CANNOT_BE_NULL, "dateTime"));
-        Objects.requireNonNull(pattern, String.format(Tips.PARAMS_CANNOT_BE_NULL, "pattern"));
-        return dateTime.format(DateTimeFormatter.ofPattern(pattern));
+        Objects.requireNonNull(dateTime, NULL_DATE_TIME);
+        Objects.requireNonNull(pattern, NULL_PATTERN);
+        DateTimeCodec.Layout layout = DateTimeCodec.Layout.of(pattern);
+        if (layout != null && DateTimeCodec.isSupported(dateTime)) {
+            return DateTimeCodec.format(dateTime, layout);
+        }
+        return getFormatter(pattern).format(dateTime);
+    }
+
+    /**
+     * 根据传入pattern进行解析
+     * yyyy-MM-dd HH:mm:ss 等固定格式使用{@link DateTimeCodec}解析
+     *
+     * @param text 日期时间字符串
+     * @param pattern 格式字符串
+     * @return java.time.LocalDateTime 解析后的时间
+     * @author HuYiGong
+     * @since 2026/10/19
+     * @throws java.time.format.DateTimeParseException 无法解析时抛出
+     */
+    public static LocalDateTime parse(CharSequence text, String pattern) {
+        Objects.requireNonNull(text, NULL_TEXT);
+        Objects.requireNonNull(pattern, NULL_PATTERN);
+        DateTimeCodec.Layout layout = DateTimeCodec.Layout.of(pattern);
+        if (layout != null) {
+            return DateTimeCodec.parse(text, layout);
+        }
+        return LocalDateTime.parse(text, getFormatter(pattern));
+    }
+
+    /**
+     * 根据传入pattern和locale进行格式化
+     *
+     * @param dateTime 日期时间
+     * @param pattern 格式字符串
+     * @param locale 区域
+     * @return 格式化后的时间
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static String format(TemporalAccessor dateTime, String pattern, Locale locale) {
+        Objects.requireNonNull(dateTime, NULL_DATE_TIME);
+        return getFormatter(pattern, locale).format(dateTime);
+    }
+
+    /**
+     * 按照默认格式格式化，并写入appendable中，与{@link #format(LocalDateTime)}一致
+     *
+     * @param appendable 输出目标，使用StringBuilder时不会产生中间字符串
+     * @param dateTime 日期时间
+     * @author HuYiGong
+     * @since 2026/10/19
+     * @throws DateTimeException 格式化或写入失败时抛出
+     */
+    public static void formatTo(Appendable appendable, LocalDateTime dateTime) {
+        Objects.requireNonNull(appendable, NULL_APPENDABLE);
+        Objects.requireNonNull(dateTime, NULL_DATE_TIME);
+        getLocalizedFormatter(Locale.getDefault(Locale.Category.FORMAT)).formatTo(dateTime, appendable);
+    }
+
+    /**
+     * 根据传入pattern进行格式化，并写入appendable中
+     *
+     * @param appendable 输出目标，使用StringBuilder时不会产生中间字符串
+     * @param dateTime 日期时间
+     * @param pattern 格式字符串
+     * @author HuYiGong
+     * @since 2026/10/19
+     * @throws DateTimeException 格式化或写入失败时抛出
+     */
+    public static void formatTo(Appendable appendable, TemporalAccessor dateTime, String pattern) {
+        formatTo(appendable, dateTime, pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * 根据传入pattern和locale进行格式化，并写入appendable中
+     *
+     * @param appendable 输出目标，使用StringBuilder时不会产生中间字符串
+     * @param dateTime 日期时间
+     * @param pattern 格式字符串
+     * @param locale 区域
+     * @author HuYiGong
+     * @since 2026/10/19
+     * @throws DateTimeException 格式化或写入失败时抛出
+     */
+    public static void formatTo(Appendable appendable, TemporalAccessor dateTime, String pattern, Locale locale) {
+        Objects.requireNonNull(appendable, NULL_APPENDABLE);
+        Objects.requireNonNull(dateTime, NULL_DATE_TIME);
+        getFormatter(pattern, locale).formatTo(dateTime, appendable);
+    }
+
+    /**
+     * 获取pattern对应的格式化器，使用默认的格式化区域
+     *
+     * @param pattern 格式字符串
+     * @return java.time.format.DateTimeFormatter 格式化器
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static DateTimeFormatter getFormatter(String pattern) {
+        return getFormatter(pattern, Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    /**
+     * 获取pattern和locale对应的格式化器
+     * 格式化器线程安全，按照locale和pattern缓存，每个locale最多缓存256个
+     *
+     * @param pattern 格式字符串
+     * @param locale 区域
+     * @return java.time.format.DateTimeFormatter 格式化器
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static DateTimeFormatter getFormatter(String pattern, Locale locale) {
+        Objects.requireNonNull(pattern, NULL_PATTERN);
+        Objects.requireNonNull(locale, NULL_LOCALE);
+        ConcurrentMap<String, DateTimeFormatter> formatters = FORMATTERS.get(locale);
+        if (formatters == null) {
+            formatters = FORMATTERS.computeIfAbsent(locale, k -> new ConcurrentHashMap<>());
+        }
+        DateTimeFormatter formatter = formatters.get(pattern);
+        if (formatter == null) {
+            formatter = DateTimeFormatter.ofPattern(pattern, locale);
+            if (formatters.size() < MAX_CACHED_FORMATTERS) {
+                DateTimeFormatter previous = formatters.putIfAbsent(pattern, formatter);
+                if (previous != null) {
+                    formatter = previous;
+                }
+            }
+        }
+        return formatter;
+    }
+
+    private static DateTimeFormatter getLocalizedFormatter(Locale locale) {
+        DateTimeFormatter formatter = LOCALIZED_FORMATTERS.get(locale);
+        if (formatter == null) {
+            formatter = LOCALIZED_FORMATTERS.computeIfAbsent(locale,
+                    k -> DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM).withLocale(k));
+        }
+        return formatter;
     }
 
     /**
@@ -128,4 +298,137 @@ public class DateTimeUtils {
         Objects.requireNonNull(date, String.format(Tips.PARAMS_CANNOT_BE_NULL, "date"));
         return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
     }
+
+    /**
+     * 批量将时间戳转为LocalDateTime，使用系统默认时区，结果与逐个调用 LocalDateTime.ofInstant 一致
+     *
+     * @param epochMillis 时间戳（毫秒）
+     * @return java.time.LocalDateTime[] 日期时间
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static LocalDateTime[] toLocalDateTimes(long[] epochMillis) {
+        return EpochConverter.ofSystemDefault().toLocalDateTimes(epochMillis);
+    }
+
+    /**
+     * 批量将LocalDateTime转为时间戳，使用系统默认时区，结果与逐个调用 atZone(...).toInstant() 一致
+     *
+     * @param dateTimes 日期时间，不能包含null
+     * @return long[] 时间戳（毫秒）
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static long[] toEpochMillis(LocalDateTime[] dateTimes) {
+        return EpochConverter.ofSystemDefault().toEpochMillis(dateTimes);
+    }
+
+    /**
+     * 批量将LocalDateTime转为Date，使用系统默认时区，结果与逐个调用{@link #toDate(LocalDateTime)}一致
+     *
+     * @param dateTimes 日期时间，null元素转换后仍为null
+     * @return java.util.Date[] 日期
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static Date[] toDates(LocalDateTime[] dateTimes) {
+        return EpochConverter.ofSystemDefault().toDates(dateTimes);
+    }
+
+    /**
+     * 批量将Date转为LocalDateTime，使用系统默认时区，结果与逐个调用{@link #toLocalDateTime(Date)}一致
+     *
+     * @param dates 日期，null元素转换后仍为null
+     * @return java.time.LocalDateTime[] 日期时间
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static LocalDateTime[] toLocalDateTimes(Date[] dates) {
+        return EpochConverter.ofSystemDefault().toLocalDateTimes(dates);
+    }
+
+    /**
+     * 将时间区间按照步长切分为多个窗口，使用系统默认时区，窗口惰性生成
+     * 例如：
+     * DateTimeUtils.windows(start, end, 1, ChronoUnit.DAYS).parallel().forEach(w -> query(w.getStart(), w.getEnd()));
+     *
+     * @param start 开始时间（包含）
+     * @param end 结束时间（不包含）
+     * @param amount 步长
+     * @param unit 步长单位
+     * @return java.util.stream.Stream<com.soon.utils.TimeWindow> 窗口流，顺序流
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static Stream<TimeWindow> windows(LocalDateTime start, LocalDateTime end, long amount, ChronoUnit unit) {
+        return windows(start, end, amount, unit, ZoneId.systemDefault());
+    }
+
+    /**
+     * 将时间区间按照步长切分为多个窗口，窗口惰性生成
+     *
+     * @param start 开始时间（包含）
+     * @param end 结束时间（不包含）
+     * @param amount 步长
+     * @param unit 步长单位
+     * @param zone 时区
+     * @return java.util.stream.Stream<com.soon.utils.TimeWindow> 窗口流，顺序流
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static Stream<TimeWindow> windows(LocalDateTime start, LocalDateTime end, long amount, ChronoUnit unit, ZoneId zone) {
+        return StreamSupport.stream(TimeWindowSpliterator.of(start, end, amount, unit, zone), false);
+    }
+
+    /**
+     * 获取全局共享的缓存时钟，首次调用时启动，使用系统默认时区并缓存格式化字符串
+     * 精度默认为10毫秒，可通过系统属性 -Dsoon.clock.resolution=50 调整；该时钟的close()无效
+     *
+     * @return com.soon.utils.CachedClock 缓存时钟
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static CachedClock getCachedClock() {
+        return CachedClockHolder.CLOCK;
+    }
+
+    /**
+     * 获取缓存的当前时间戳，误差不超过缓存时钟的精度
+     *
+     * @return long 时间戳（毫秒）
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static long currentTimeMillis() {
+        Clock override = clock;
+        return override != null ? override.millis() : CachedClockHolder.CLOCK.millis();
+    }
+
+    /**
+     * 替换{@link #currentTimeMillis()}使用的时钟，用于测试，例如Clock.fixed或Clock.offset
+     *
+     * @param replacement 时钟，为null时恢复为全局缓存时钟
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static void setClock(Clock replacement) {
+        clock = replacement;
+    }
+
+    /**
+     * 获取{@link #currentTimeMillis()}使用的时钟
+     *
+     * @return java.time.Clock 时钟
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static Clock getClock() {
+        Clock override = clock;
+        return override != null ? override : CachedClockHolder.CLOCK;
+    }
+
+    private static final class CachedClockHolder {
+        private static final CachedClock CLOCK = CachedClock.createShared(
+                Long.getLong("soon.clock.resolution", 10L), ZoneId.systemDefault(), true);
+    }
 }
@@ -0,0 +1,259 @@
+package com.soon.utils;
+
+import com.soon.utils.consts.Tips;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Date;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * 时间戳与LocalDateTime的批量转换
+ * 缓存最近使用的时区偏移区间（两次偏移变化之间），区间内的转换只需要加减偏移量；
+ * 区间外及夏令时切换附近有歧义的本地时间交给ZoneRules处理，结果与 atZone/ofInstant 完全一致
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public class EpochConverter {
+    private static final ConcurrentMap<ZoneId, EpochConverter> CONVERTERS = new ConcurrentHashMap<>();
+
+    private final ZoneId zone;
+    private final ZoneRules rules;
+    private volatile Window window;
+
+    private EpochConverter(ZoneId zone) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.window = createWindow(System.currentTimeMillis() / 1000L);
+    }
+
+    /**
+     * 获取指定时区的转换器
+     *
+     * @param zone 时区
+     * @return com.soon.utils.EpochConverter 转换器
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static EpochConverter of(ZoneId zone) {
+        Objects.requireNonNull(zone, String.format(Tips.PARAMS_CANNOT_BE_NULL, "zone"));
+        EpochConverter converter = CONVERTERS.get(zone);
+        if (converter == null) {
+            converter = CONVERTERS.computeIfAbsent(zone, EpochConverter::new);
+        }
+        return converter;
+    }
+
+    /**
+     * 获取系统默认时区的转换器
+     *
+     * @return com.soon.utils.EpochConverter 转换器
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static EpochConverter ofSystemDefault() {
+        return of(ZoneId.systemDefault());
+    }
+
+    /**
+     * 获取时区
+     *
+     * @return java.time.ZoneId 时区
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * 时间戳转LocalDateTime
+     *
+     * @param epochMilli 时间戳（毫秒）
+     * @return java.time.LocalDateTime 日期时间
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public LocalDateTime toLocalDateTime(long epochMilli) {
+        long epochSecond = Math.floorDiv(epochMilli, 1000L);
+        int nano = (int) Math.floorMod(epochMilli, 1000L) * 1_000_000;
+        Window w = window;
+        if (epochSecond < w.start || epochSecond >= w.end) {
+            w = createWindow(epochSecond);
+            window = w;
+        }
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, w.offset);
+    }
+
+    /**
+     * LocalDateTime转时间戳
+     * 夏令时切换产生的重叠时间取较早的偏移，跳过的时间向后顺延，与 atZone 一致
+     *
+     * @param dateTime 日期时间
+     * @return long 时间戳（毫秒）
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long toEpochMilli(LocalDateTime dateTime) {
+        long localSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+        Window w = window;
+        if (localSecond >= w.localStart && localSecond < w.localEnd) {
+            return (localSecond - w.offsetSeconds) * 1000L + dateTime.getNano() / 1_000_000;
+        }
+        Instant instant = dateTime.atZone(zone).toInstant();
+        window = createWindow(instant.getEpochSecond());
+        return instant.toEpochMilli();
+    }
+
+    /**
+     * 批量将时间戳转为LocalDateTime
+     *
+     * @param epochMillis 时间戳（毫秒）
+     * @return java.time.LocalDateTime[] 日期时间
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public LocalDateTime[] toLocalDateTimes(long[] epochMillis) {
+        Objects.requireNonNull(epochMillis, String.format(Tips.PARAMS_CANNOT_BE_NULL, "epochMillis"));
+        LocalDateTime[] result = new LocalDateTime[epochMillis.length];
+        for (int i = 0; i < epochMillis.length; i++) {
+            result[i] = toLocalDateTime(epochMillis[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 批量将LocalDateTime转为时间戳
+     *
+     * @param dateTimes 日期时间，不能包含null
+     * @return long[] 时间戳（毫秒）
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long[] toEpochMillis(LocalDateTime[] dateTimes) {
+        Objects.requireNonNull(dateTimes, String.format(Tips.PARAMS_CANNOT_BE_NULL, "dateTimes"));
+        long[] result = new long[dateTimes.length];
+        for (int i = 0; i < dateTimes.length; i++) {
+            result[i] = toEpochMilli(dateTimes[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 批量将Date转为LocalDateTime，null元素转换后仍为null
+     *
+     * @param dates 日期
+     * @return java.time.LocalDateTime[] 日期时间
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public LocalDateTime[] toLocalDateTimes(Date[] dates) {
+        Objects.requireNonNull(dates, String.format(Tips.PARAMS_CANNOT_BE_NULL, "dates"));
+        LocalDateTime[] result = new LocalDateTime[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            result[i] = dates[i] == null ? null : toLocalDateTime(dates[i].getTime());
+        }
+        return result;
+    }
+
+    /**
+     * 批量将LocalDateTime转为Date，null元素转换后仍为null
+     *
+     * @param dateTimes 日期时间
+     * @return java.util.Date[] 日期
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public Date[] toDates(LocalDateTime[] dateTimes) {
+        Objects.requireNonNull(dateTimes, String.format(Tips.PARAMS_CANNOT_BE_NULL, "dateTimes"));
+        Date[] result = new Date[dateTimes.length];
+        for (int i = 0; i < dateTimes.length; i++) {
+            result[i] = dateTimes[i] == null ? null : new Date(toEpochMilli(dateTimes[i]));
+        }
+        return result;
+    }
+
+    /**
+     * 将时间戳流转为LocalDateTime流
+     *
+     * @param epochMillis 时间戳（毫秒）
+     * @return java.util.stream.Stream<java.time.LocalDateTime> 日期时间
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public Stream<LocalDateTime> toLocalDateTimes(LongStream epochMillis) {
+        Objects.requireNonNull(epochMillis, String.format(Tips.PARAMS_CANNOT_BE_NULL, "epochMillis"));
+        return epochMillis.mapToObj(this::toLocalDateTime);
+    }
+
+    /**
+     * 将LocalDateTime流转为时间戳流
+     *
+     * @param dateTimes 日期时间，不能包含null
+     * @return java.util.stream.LongStream 时间戳（毫秒）
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public LongStream toEpochMillis(Stream<LocalDateTime> dateTimes) {
+        Objects.requireNonNull(dateTimes, String.format(Tips.PARAMS_CANNOT_BE_NULL, "dateTimes"));
+        return dateTimes.mapToLong(this::toEpochMilli);
+    }
+
+    /**
+     * 计算包含指定时间的偏移区间
+     */
+    private Window createWindow(long epochSecond) {
+        if (rules.isFixedOffset()) {
+            return new Window(Long.MIN_VALUE, Long.MAX_VALUE, rules.getOffset(Instant.EPOCH), Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+        ZoneOffset offset = rules.getOffset(instant);
+        ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+        ZoneOffsetTransition next = rules.nextTransition(instant);
+        long start = Long.MIN_VALUE;
+        long localStart = Long.MIN_VALUE;
+        if (previous != null) {
+            start = previous.toEpochSecond();
+            // 跳过或重叠的本地时间不在区间内
+            localStart = start + Math.max(previous.getOffsetBefore().getTotalSeconds(),
+                    previous.getOffsetAfter().getTotalSeconds());
+        }
+        long end = Long.MAX_VALUE;
+        long localEnd = Long.MAX_VALUE;
+        if (next != null) {
+            end = next.toEpochSecond();
+            localEnd = end + Math.min(offset.getTotalSeconds(), next.getOffsetAfter().getTotalSeconds());
+        }
+        return new Window(start, end, offset, localStart, localEnd);
+    }
+
+    /**
+     * 偏移区间，[start, end)内的时间戳偏移均为offset，[localStart, localEnd)内的本地时间只对应唯一的偏移offset
+     */
+    private static final class Window {
+        private final long start;
+        private final long end;
+        private final ZoneOffset offset;
+        private final int offsetSeconds;
+        private final long localStart;
+        private final long localEnd;
+
+        private Window(long start, long end, ZoneOffset offset, long localStart, long localEnd) {
+            this.start = start;
+            this.end = end;
+            this.offset = offset;
+            this.offsetSeconds = offset.getTotalSeconds();
+            this.localStart = localStart;
+            this.localEnd = localEnd;
+        }
+    }
+}
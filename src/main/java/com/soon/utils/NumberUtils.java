@@ -1,6 +1,9 @@
 package com.soon.utils;
 
-import java.text.NumberFormat;
+import com.soon.utils.consts.Tips;
+
+import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * 数字工具
@@ -11,8 +14,37 @@ import java.text.NumberFormat;
 public class NumberUtils {
     private NumberUtils() {}
 
+    /**
+     * 补零时的最大位数，与NumberFormat对整数位数的限制一致
+     */
+    public static final int MAX_FILL_DIGITS = 309;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * 参数为空的提示，预先生成
+     */
+    private static final String NULL_BUILDER = String.format(Tips.PARAMS_CANNOT_BE_NULL, "builder");
+    private static final String NULL_BUF = String.format(Tips.PARAMS_CANNOT_BE_NULL, "buf");
+
+    /**
+     * 0-99的十位、个位数字，同包的DateTimeCodec共用，不能修改
+     */
+    static final char[] DIGIT_TENS = new char[100];
+
+    static final char[] DIGIT_ONES = new char[100];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_TENS[i] = (char) ('0' + i / 10);
+            DIGIT_ONES[i] = (char) ('0' + i % 10);
+        }
+    }
+
     /**
      * 补零
+     * 位数不足digit时在前面补零，超出时保留全部位数，例如 fillZero(12345, 4) = "12345"；
+     * 负数保留负号（不计入位数），digit超过{@link #MAX_FILL_DIGITS}时按最大位数处理
      *
      * @param number 数字
      * @param digit 位数
@@ -21,10 +53,254 @@ public class NumberUtils {
      * @since 2021/5/14 16:40
      */
     public static String fillZero(long number, int digit) {
-        NumberFormat format = NumberFormat.getInstance();
-        format.setGroupingUsed(false);
-        format.setMinimumIntegerDigits(digit);
-        format.setMaximumIntegerDigits(digit);
-        return format.format(number);
+        char[] buf = new char[fillZeroLength(number, digit)];
+        writeZeroPadded(number, digit, buf, 0);
+        return new String(buf);
+    }
+
+    /**
+     * 补零并截断为digit位，例如 fillZeroTruncated(12345, 4) = "2345"，用于取数字的低位（如动态口令）
+     * 与 NumberFormat（不分组，最小和最大整数位数均为digit）的结果一致：
+     * 超出位数时只保留低位，负数保留负号，digit小于等于0时数字部分为0，digit超过{@link #MAX_FILL_DIGITS}时按最大位数处理
+     *
+     * @param number 数字
+     * @param digit 位数
+     * @return java.lang.String 补零后的字符串
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static String fillZeroTruncated(long number, int digit) {
+        int width = digit <= 0 ? 1 : Math.min(digit, MAX_FILL_DIGITS);
+        int sign = number < 0 ? 1 : 0;
+        char[] buf = new char[width + sign];
+        if (sign == 1) {
+            buf[0] = '-';
+        }
+        writeDigits(digit <= 0 ? 0L : negate(number), buf, buf.length, width);
+        return new String(buf);
+    }
+
+    /**
+     * 补零后追加到StringBuilder，规则同{@link #fillZero(long, int)}
+     *
+     * @param builder 输出
+     * @param number 数字
+     * @param digit 位数
+     * @return java.lang.StringBuilder 传入的builder
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static StringBuilder appendZeroPadded(StringBuilder builder, long number, int digit) {
+        Objects.requireNonNull(builder, NULL_BUILDER);
+        long negative = negate(number);
+        int width = digitWidth(negative, digit);
+        if (number < 0) {
+            builder.append('-');
+        }
+        if (width > 19) {
+            // long最多19位，多出的宽度全部是前导零
+            int length = digitCount(negative);
+            for (int i = length; i < width; i++) {
+                builder.append('0');
+            }
+            width = length;
+        }
+        char[] buf = new char[19];
+        writeDigits(negative, buf, 19, width);
+        return builder.append(buf, 19 - width, width);
+    }
+
+    /**
+     * 补零后写入char数组，规则同{@link #fillZero(long, int)}
+     *
+     * @param number 数字
+     * @param digit 位数
+     * @param buf 输出数组
+     * @param offset 起始位置
+     * @return int 写入的长度
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static int writeZeroPadded(long number, int digit, char[] buf, int offset) {
+        Objects.requireNonNull(buf, NULL_BUF);
+        int length = fillZeroLength(number, digit);
+        checkBounds(buf.length, offset, length);
+        if (number < 0) {
+            buf[offset] = '-';
+        }
+        long negative = negate(number);
+        writeDigits(negative, buf, offset + length, digitWidth(negative, digit));
+        return length;
+    }
+
+    /**
+     * 计算补零后的字符串长度，包含负号
+     *
+     * @param number 数字
+     * @param digit 位数
+     * @return int 长度
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static int fillZeroLength(long number, int digit) {
+        return digitWidth(negate(number), digit) + (number < 0 ? 1 : 0);
+    }
+
+    /**
+     * 将long按十进制写入char数组，不创建临时字符串
+     *
+     * @param number 数字
+     * @param buf 输出数组
+     * @param offset 起始位置
+     * @return int 写入的长度
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static int writeLong(long number, char[] buf, int offset) {
+        Objects.requireNonNull(buf, NULL_BUF);
+        int length = decimalLength(number);
+        checkBounds(buf.length, offset, length);
+        if (number < 0) {
+            buf[offset] = '-';
+        }
+        long negative = negate(number);
+        writeDigits(negative, buf, offset + length, digitCount(negative));
+        return length;
+    }
+
+    /**
+     * 计算long的十进制字符串长度，包含负号
+     *
+     * @param number 数字
+     * @return int 长度
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static int decimalLength(long number) {
+        return digitCount(negate(number)) + (number < 0 ? 1 : 0);
+    }
+
+    /**
+     * 定宽小写十六进制，超出宽度时只保留低位，例如 toHex(255, 4) = "00ff"
+     *
+     * @param value 数值，按无符号处理
+     * @param width 宽度，1-16
+     * @return java.lang.String 十六进制字符串
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static String toHex(long value, int width) {
+        checkHexWidth(width);
+        char[] buf = new char[width];
+        writeHex(value, width, buf, 0);
+        return new String(buf);
+    }
+
+    /**
+     * 定宽小写十六进制追加到StringBuilder，规则同{@link #toHex(long, int)}
+     *
+     * @param builder 输出
+     * @param value 数值，按无符号处理
+     * @param width 宽度，1-16
+     * @return java.lang.StringBuilder 传入的builder
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static StringBuilder appendHex(StringBuilder builder, long value, int width) {
+        Objects.requireNonNull(builder, NULL_BUILDER);
+        checkHexWidth(width);
+        for (int shift = (width - 1) << 2; shift >= 0; shift -= 4) {
+            builder.append(HEX_DIGITS[(int) (value >>> shift) & 0xF]);
+        }
+        return builder;
+    }
+
+    /**
+     * 定宽小写十六进制写入char数组，规则同{@link #toHex(long, int)}
+     *
+     * @param value 数值，按无符号处理
+     * @param width 宽度，1-16
+     * @param buf 输出数组
+     * @param offset 起始位置
+     * @return int 写入的长度
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static int writeHex(long value, int width, char[] buf, int offset) {
+        Objects.requireNonNull(buf, NULL_BUF);
+        checkHexWidth(width);
+        checkBounds(buf.length, offset, width);
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buf[i] = HEX_DIGITS[(int) value & 0xF];
+            value >>>= 4;
+        }
+        return width;
+    }
+
+    /**
+     * 补零后的数字位数，不小于数字本身的位数
+     *
+     * @param negative 数字的非正数形式，见{@link #negate(long)}
+     */
+    private static int digitWidth(long negative, int digit) {
+        return Math.max(Math.min(digit, MAX_FILL_DIGITS), digitCount(negative));
+    }
+
+    /**
+     * 转为非正数处理，避免Long.MIN_VALUE取反溢出
+     */
+    private static long negate(long number) {
+        return number < 0 ? number : -number;
+    }
+
+    /**
+     * 计算非正数的十进制位数
+     */
+    private static int digitCount(long negative) {
+        long bound = -10L;
+        for (int count = 1; count < 19; count++) {
+            if (negative > bound) {
+                return count;
+            }
+            bound *= 10;
+        }
+        return 19;
+    }
+
+    /**
+     * 从end向前写入count位数字，不足的高位补零，超出的高位舍弃
+     *
+     * @param negative 数字的非正数形式，见{@link #negate(long)}
+     */
+    private static void writeDigits(long negative, char[] buf, int end, int count) {
+        int position = end;
+        int stop = end - count;
+        while (negative <= -100 && position - stop >= 2) {
+            long quotient = negative / 100;
+            int remainder = (int) (quotient * 100 - negative);
+            negative = quotient;
+            buf[--position] = DIGIT_ONES[remainder];
+            buf[--position] = DIGIT_TENS[remainder];
+        }
+        while (negative != 0 && position > stop) {
+            long quotient = negative / 10;
+            buf[--position] = (char) ('0' + (quotient * 10 - negative));
+            negative = quotient;
+        }
+        if (position > stop) {
+            Arrays.fill(buf, stop, position, '0');
+        }
+    }
+
+    private static void checkHexWidth(int width) {
+        if (width < 1 || width > 16) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "width"));
+        }
+    }
+
+    private static void checkBounds(int capacity, int offset, int length) {
+        if (offset < 0 || capacity - offset < length) {
+            throw new IndexOutOfBoundsException(String.format(Tips.ILLEGAL_PARAMETER, "offset"));
+        }
     }
 }
@@ -0,0 +1,356 @@
+package com.soon.utils;
+
+import com.soon.utils.consts.Tips;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 外部进程池，限制同时运行的子进程数量
+ * 超出数量的命令按优先级（高优先）、截止时间（早优先）、提交顺序排队，队列满时拒绝；
+ * 排队超过截止时间仍未启动的命令不再执行。排队不占用线程，进程结束时才调度下一个
+ * 例如：
+ * ProcessPool pool = ProcessPool.create(8, 1000);
+ * pool.submit(Arrays.asList("convert", src, dest), 30_000L, 0, 10_000L).thenAccept(...);
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public class ProcessPool implements AutoCloseable {
+    private static final ScheduledExecutorService DEADLINE_TIMER = Executors.newSingleThreadScheduledExecutor(
+            ThreadPools.daemonThreadFactory("process-pool-deadline"));
+
+    private static final Comparator<Task> ORDER = (a, b) -> {
+        int result = Integer.compare(b.priority, a.priority);
+        if (result == 0) {
+            result = Long.compare(a.deadlineNanos, b.deadlineNanos);
+        }
+        return result != 0 ? result : Long.compare(a.sequence, b.sequence);
+    };
+
+    private final int maxProcesses;
+    private final int queueCapacity;
+    private final PriorityQueue<Task> queue = new PriorityQueue<>(ORDER);
+    private final AtomicLong sequence = new AtomicLong();
+    private int running;
+    private boolean closed;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder totalRunMillis = new LongAdder();
+    private final AtomicLong maxRunMillis = new AtomicLong();
+
+    private ProcessPool(int maxProcesses, int queueCapacity) {
+        this.maxProcesses = maxProcesses;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * 创建进程池
+     *
+     * @param maxProcesses 最大同时运行的进程数
+     * @param queueCapacity 排队的最大数量
+     * @return com.soon.utils.ProcessPool 进程池
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static ProcessPool create(int maxProcesses, int queueCapacity) {
+        if (maxProcesses <= 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "maxProcesses"));
+        }
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "queueCapacity"));
+        }
+        return new ProcessPool(maxProcesses, queueCapacity);
+    }
+
+    /**
+     * 提交命令，默认优先级，不限制排队时间
+     *
+     * @param command 命令及参数
+     * @param timeoutMillis 运行超时时间（毫秒），小于等于0时不超时
+     * @return java.util.concurrent.CompletableFuture<com.soon.utils.ProcessResult> 执行结果
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public CompletableFuture<ProcessResult> submit(List<String> command, long timeoutMillis) {
+        return submit(command, timeoutMillis, 0, 0L);
+    }
+
+    /**
+     * 提交命令
+     * 队列已满或进程池已关闭时，返回的Future以RejectedExecutionException异常完成；
+     * 超过截止时间仍未启动时以TimeoutException异常完成；排队中取消Future会将命令移出队列，
+     * 运行中取消Future会强制结束进程及其子进程，进程退出后才释放运行名额
+     *
+     * @param command 命令及参数
+     * @param timeoutMillis 运行超时时间（毫秒），小于等于0时不超时
+     * @param priority 优先级，越大越先执行
+     * @param deadlineMillis 最长排队时间（毫秒），小于等于0时不限制
+     * @return java.util.concurrent.CompletableFuture<com.soon.utils.ProcessResult> 执行结果
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public CompletableFuture<ProcessResult> submit(List<String> command, long timeoutMillis, int priority,
+                                                   long deadlineMillis) {
+        Objects.requireNonNull(command, String.format(Tips.PARAMS_CANNOT_BE_NULL, "command"));
+        if (command.isEmpty()) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "command"));
+        }
+        submitted.increment();
+        long now = System.nanoTime();
+        Task task = new Task(new ArrayList<>(command), timeoutMillis, priority,
+                deadlineMillis > 0 ? now + TimeUnit.MILLISECONDS.toNanos(deadlineMillis) : Long.MAX_VALUE,
+                sequence.getAndIncrement(), now);
+        boolean start = false;
+        synchronized (queue) {
+            if (closed || (running >= maxProcesses && queue.size() >= queueCapacity)) {
+                rejected.increment();
+                task.future.completeExceptionally(new RejectedExecutionException(
+                        closed ? "进程池已关闭" : "进程池队列已满"));
+                return task.future;
+            }
+            if (running < maxProcesses) {
+                running++;
+                start = true;
+            } else {
+                queue.add(task);
+            }
+        }
+        if (start) {
+            dispatch(task);
+        } else {
+            if (deadlineMillis > 0) {
+                DEADLINE_TIMER.schedule(() -> expire(task), deadlineMillis, TimeUnit.MILLISECONDS);
+            }
+            task.future.whenComplete((result, e) -> {
+                if (task.future.isCancelled()) {
+                    remove(task);
+                }
+            });
+        }
+        return task.future;
+    }
+
+    /**
+     * 关闭进程池，拒绝新的命令，排队中的命令以RejectedExecutionException异常完成，运行中的进程不受影响
+     *
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    @Override
+    public void close() {
+        List<Task> pending;
+        synchronized (queue) {
+            closed = true;
+            pending = new ArrayList<>(queue);
+            queue.clear();
+        }
+        for (Task task : pending) {
+            task.future.completeExceptionally(new RejectedExecutionException("进程池已关闭"));
+        }
+    }
+
+    /**
+     * 启动命令，进程结束后继续启动队列中的下一个；启动失败立即完成的命令在循环中处理，避免递归过深
+     */
+    private void dispatch(Task task) {
+        while (task != null) {
+            if (task.future.isDone()) {
+                // 出队前已被取消或已过期
+                task = pollOrRelease();
+                continue;
+            }
+            started.increment();
+            totalWaitNanos.add(System.nanoTime() - task.submitNanos);
+            CompletableFuture<ProcessResult> execution = ConsoleExecutor.executeAsync(task.command, task.timeoutMillis,
+                    task.future);
+            if (!execution.isDone()) {
+                Task current = task;
+                execution.whenComplete((result, e) -> {
+                    finish(current, result, e);
+                    dispatch(pollOrRelease());
+                });
+                return;
+            }
+            ProcessResult result = null;
+            Throwable error = null;
+            try {
+                result = execution.join();
+            } catch (CompletionException e) {
+                error = e.getCause();
+            }
+            finish(task, result, error);
+            task = pollOrRelease();
+        }
+    }
+
+    private void finish(Task task, ProcessResult result, Throwable e) {
+        if (e != null) {
+            task.future.completeExceptionally(e);
+            return;
+        }
+        if (task.future.isCancelled()) {
+            // 运行中被取消，进程已被强制结束
+            return;
+        }
+        completed.increment();
+        totalRunMillis.add(result.getWallTimeMillis());
+        maxRunMillis.accumulateAndGet(result.getWallTimeMillis(), Math::max);
+        task.future.complete(result);
+    }
+
+    /**
+     * 取出下一个排队的命令，队列为空时释放一个运行名额
+     */
+    private Task pollOrRelease() {
+        synchronized (queue) {
+            Task next = queue.poll();
+            if (next == null) {
+                running--;
+            }
+            return next;
+        }
+    }
+
+    private void expire(Task task) {
+        if (remove(task)) {
+            expired.increment();
+            task.future.completeExceptionally(new TimeoutException("排队超过截止时间，未执行"));
+        }
+    }
+
+    private boolean remove(Task task) {
+        synchronized (queue) {
+            return queue.remove(task);
+        }
+    }
+
+    /**
+     * 获取排队中的命令数量
+     *
+     * @return int 数量
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public int getQueueDepth() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * 获取运行中的进程数量
+     *
+     * @return int 数量
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public int getRunning() {
+        synchronized (queue) {
+            return running;
+        }
+    }
+
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * 获取因超过截止时间而未执行的命令数量
+     *
+     * @return long 数量
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long getExpiredCount() {
+        return expired.sum();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    /**
+     * 获取已启动命令的平均排队时间
+     *
+     * @return double 毫秒
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public double getAverageWaitMillis() {
+        long count = started.sum();
+        return count == 0 ? 0D : totalWaitNanos.sum() / 1_000_000D / count;
+    }
+
+    /**
+     * 获取已完成进程的平均运行时间
+     *
+     * @return double 毫秒
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public double getAverageRunMillis() {
+        long count = completed.sum();
+        return count == 0 ? 0D : (double) totalRunMillis.sum() / count;
+    }
+
+    /**
+     * 获取已完成进程的最长运行时间
+     *
+     * @return long 毫秒
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long getMaxRunMillis() {
+        return maxRunMillis.get();
+    }
+
+    public int getMaxProcesses() {
+        return maxProcesses;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    private static final class Task {
+        private final List<String> command;
+        private final long timeoutMillis;
+        private final int priority;
+        private final long deadlineNanos;
+        private final long sequence;
+        private final long submitNanos;
+        private final CompletableFuture<ProcessResult> future = new CompletableFuture<>();
+
+        private Task(List<String> command, long timeoutMillis, int priority, long deadlineNanos, long sequence,
+                     long submitNanos) {
+            this.command = command;
+            this.timeoutMillis = timeoutMillis;
+            this.priority = priority;
+            this.deadlineNanos = deadlineNanos;
+            this.sequence = sequence;
+            this.submitNanos = submitNanos;
+        }
+    }
+}
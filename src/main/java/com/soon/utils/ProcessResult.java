@@ -0,0 +1,67 @@
+package com.soon.utils;
+
+/**
+ * 外部命令的执行结果
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public class ProcessResult {
+    private final int exitCode;
+    private final String stdout;
+    private final String stderr;
+    private final long wallTimeMillis;
+    private final boolean timedOut;
+
+    ProcessResult(int exitCode, String stdout, String stderr, long wallTimeMillis, boolean timedOut) {
+        this.exitCode = exitCode;
+        this.stdout = stdout;
+        this.stderr = stderr;
+        this.wallTimeMillis = wallTimeMillis;
+        this.timedOut = timedOut;
+    }
+
+    /**
+     * 是否正常结束（未超时且退出码为0）
+     *
+     * @return boolean
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public boolean isSuccess() {
+        return !timedOut && exitCode == 0;
+    }
+
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    public String getStdout() {
+        return stdout;
+    }
+
+    public String getStderr() {
+        return stderr;
+    }
+
+    public long getWallTimeMillis() {
+        return wallTimeMillis;
+    }
+
+    /**
+     * 是否因超时被强制结束
+     *
+     * @return boolean
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessResult{exitCode=" + exitCode + ", wallTimeMillis=" + wallTimeMillis
+                + ", timedOut=" + timedOut + '}';
+    }
+}
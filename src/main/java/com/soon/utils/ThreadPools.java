@@ -0,0 +1,100 @@
+package com.soon.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 线程池工具
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public class ThreadPools {
+    private ThreadPools() {}
+
+    /**
+     * 虚拟线程的ThreadFactory构造器，Java 21以下为null
+     */
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        if (Boolean.parseBoolean(System.getProperty("soon.thread.virtual", "true"))) {
+            try {
+                Class<?> builder = Class.forName("java.lang.Thread$Builder");
+                ofVirtual = Thread.class.getMethod("ofVirtual");
+                builderName = builder.getMethod("name", String.class, long.class);
+                builderFactory = builder.getMethod("factory");
+                newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            } catch (ReflectiveOperationException e) {
+                ofVirtual = null;
+            }
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    /**
+     * 创建用于阻塞IO（等待进程、读取管道、网络调用等）的线程池
+     * 支持虚拟线程时（Java 21及以上）每个任务一个虚拟线程，省去线程池的大小配置；
+     * 注意Java 21-23上Process.waitFor、管道读取等阻塞调用不会让出载体线程，调度器会临时补偿新的平台线程（或固定载体线程），
+     * 阻塞期间仍然占用平台线程，只是不再受线程池大小的限制。
+     * 否则使用守护线程的可缓存线程池。可通过 -Dsoon.thread.virtual=false 关闭虚拟线程
+     *
+     * @param name 线程名前缀
+     * @return java.util.concurrent.ExecutorService 线程池
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static ExecutorService newIoExecutor(String name) {
+        if (OF_VIRTUAL != null) {
+            try {
+                Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), name + "-", 0L);
+                ThreadFactory factory = (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+                return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, factory);
+            } catch (ReflectiveOperationException e) {
+                // 退化为平台线程
+            }
+        }
+        return Executors.newCachedThreadPool(daemonThreadFactory(name));
+    }
+
+    /**
+     * 是否使用虚拟线程
+     *
+     * @return boolean
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static boolean isVirtualThreadsEnabled() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * 创建守护线程的ThreadFactory，线程名为 name-序号
+     *
+     * @param name 线程名前缀
+     * @return java.util.concurrent.ThreadFactory ThreadFactory
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static ThreadFactory daemonThreadFactory(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, name + "-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package com.soon.utils;
+
+/**
+ * 时间窗口，[start, end)，单位为毫秒时间戳
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public final class TimeWindow {
+    private final long start;
+    private final long end;
+
+    public TimeWindow(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * 获取开始时间（包含）
+     *
+     * @return long 时间戳（毫秒）
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * 获取结束时间（不包含）
+     *
+     * @return long 时间戳（毫秒）
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long getEnd() {
+        return end;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TimeWindow)) {
+            return false;
+        }
+        TimeWindow that = (TimeWindow) o;
+        return start == that.start && end == that.end;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(start) + Long.hashCode(end);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + start + ", " + end + ")";
+    }
+}
@@ -0,0 +1,159 @@
+package com.soon.utils;
+
+import com.soon.utils.consts.Tips;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * 时间窗口分割器
+ * 按照步长惰性生成窗口，不会预先生成所有窗口；按照下标二分拆分，适合parallel()后并行查询各个分区
+ * 时间单位（毫秒至半天）按照固定时长切分；日期单位（天及以上）按照本地日历切分，例如每个月一个窗口
+ * 最后一个窗口的结束时间截断为end
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public class TimeWindowSpliterator implements Spliterator<TimeWindow> {
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE | DISTINCT;
+
+    private final LocalDateTime origin;
+    private final long amount;
+    private final ChronoUnit unit;
+    private final long startMilli;
+    private final long endMilli;
+    private final long stepMilli;
+    private final EpochConverter converter;
+    private long index;
+    private final long fence;
+
+    private TimeWindowSpliterator(LocalDateTime origin, long amount, ChronoUnit unit, long startMilli, long endMilli,
+                                  long stepMilli, EpochConverter converter, long index, long fence) {
+        this.origin = origin;
+        this.amount = amount;
+        this.unit = unit;
+        this.startMilli = startMilli;
+        this.endMilli = endMilli;
+        this.stepMilli = stepMilli;
+        this.converter = converter;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    /**
+     * 创建时间窗口分割器
+     *
+     * @param start 开始时间（包含）
+     * @param end 结束时间（不包含）
+     * @param amount 步长
+     * @param unit 步长单位，不支持FOREVER
+     * @param zone 时区
+     * @return com.soon.utils.TimeWindowSpliterator 分割器
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static TimeWindowSpliterator of(LocalDateTime start, LocalDateTime end, long amount, ChronoUnit unit, ZoneId zone) {
+        Objects.requireNonNull(start, String.format(Tips.PARAMS_CANNOT_BE_NULL, "start"));
+        Objects.requireNonNull(end, String.format(Tips.PARAMS_CANNOT_BE_NULL, "end"));
+        Objects.requireNonNull(unit, String.format(Tips.PARAMS_CANNOT_BE_NULL, "unit"));
+        Objects.requireNonNull(zone, String.format(Tips.PARAMS_CANNOT_BE_NULL, "zone"));
+        if (amount <= 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "amount"));
+        }
+        if (unit == ChronoUnit.FOREVER || unit.isTimeBased() && unit.getDuration().toNanos() < 1_000_000L) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "unit"));
+        }
+        EpochConverter converter = EpochConverter.of(zone);
+        long startMilli = converter.toEpochMilli(start);
+        long endMilli = converter.toEpochMilli(end);
+        long count = 0;
+        long stepMilli = 0;
+        if (endMilli > startMilli) {
+            if (unit.isTimeBased()) {
+                stepMilli = Math.multiplyExact(unit.getDuration().toMillis(), amount);
+                long span = endMilli - startMilli;
+                count = span / stepMilli + (span % stepMilli == 0 ? 0 : 1);
+            } else {
+                count = Math.max(unit.between(start, end) / amount, 0);
+                while (count > 0 && !plus(start, (count - 1) * amount, unit).isBefore(end)) {
+                    count--;
+                }
+                while (plus(start, count * amount, unit).isBefore(end)) {
+                    count++;
+                }
+            }
+        }
+        return new TimeWindowSpliterator(start, amount, unit, startMilli, endMilli, stepMilli, converter, 0, count);
+    }
+
+    private TimeWindow window(long i) {
+        long windowStart;
+        long windowEnd;
+        if (unit.isTimeBased()) {
+            windowStart = startMilli + i * stepMilli;
+            windowEnd = windowStart + stepMilli;
+        } else {
+            windowStart = i == 0 ? startMilli : converter.toEpochMilli(plus(origin, i * amount, unit));
+            LocalDateTime next = plus(origin, (i + 1) * amount, unit);
+            windowEnd = next == LocalDateTime.MAX ? endMilli : converter.toEpochMilli(next);
+        }
+        return new TimeWindow(windowStart, Math.min(windowEnd, endMilli));
+    }
+
+    /**
+     * 按日历单位累加，超出LocalDateTime的范围（例如ERAS、MILLENNIA）时返回LocalDateTime.MAX
+     */
+    private static LocalDateTime plus(LocalDateTime dateTime, long amount, ChronoUnit unit) {
+        try {
+            return dateTime.plus(amount, unit);
+        } catch (DateTimeException | ArithmeticException e) {
+            return LocalDateTime.MAX;
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TimeWindow> action) {
+        Objects.requireNonNull(action);
+        if (index >= fence) {
+            return false;
+        }
+        action.accept(window(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super TimeWindow> action) {
+        Objects.requireNonNull(action);
+        long i = index;
+        index = fence;
+        for (; i < fence; i++) {
+            action.accept(window(i));
+        }
+    }
+
+    @Override
+    public Spliterator<TimeWindow> trySplit() {
+        long low = index;
+        long mid = (low + fence) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        index = mid;
+        return new TimeWindowSpliterator(origin, amount, unit, startMilli, endMilli, stepMilli, converter, low, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
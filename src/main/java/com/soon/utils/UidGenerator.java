@@ -1,6 +1,16 @@
 package com.soon.utils;
 
+import com.soon.utils.consts.Tips;
+import com.soon.utils.uid.IdCodec;
+import com.soon.utils.uid.SegmentIdAllocator;
+import com.soon.utils.uid.SegmentStore;
+import com.soon.utils.uid.SnowflakeIdGenerator;
+
+import java.io.IOException;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Created on 2021/5/13.
@@ -8,6 +18,26 @@ import java.util.UUID;
  * @author Soon
  */
 public class UidGenerator {
+    /**
+     * UUIDv7中rand_a的12位用作毫秒内的计数器，新的毫秒从低半区随机起步，保留递增空间
+     */
+    private static final int V7_COUNTER_BITS = 12;
+
+    /**
+     * 上次生成UUIDv7的毫秒时间戳与计数器，高位为时间戳，低12位为计数器
+     */
+    private static final AtomicLong V7_STATE = new AtomicLong();
+
+    private static final String DATACENTER_PROPERTY = "soon.uid.datacenter";
+    private static final String WORKER_PROPERTY = "soon.uid.worker";
+
+    private static final String NULL_UUID = String.format(Tips.PARAMS_CANNOT_BE_NULL, "uuid");
+
+    /**
+     * 默认的雪花算法生成器，首次使用时创建
+     */
+    private static volatile SnowflakeIdGenerator snowflake;
+
     /**
      * 获取去掉"-"后的UUID
      *
@@ -16,6 +46,193 @@ public class UidGenerator {
      * @since 2021/5/13
      */
     public static String getCleanUid() {
-        return UUID.randomUUID().toString().replace("-", "");
+        return toCleanString(UUID.randomUUID());
+    }
+
+    /**
+     * 获取去掉"-"后的随机UUID（版本4），使用ThreadLocalRandom，不保证不可预测，不能用于令牌、密钥等安全场景
+     *
+     * @return java.lang.String 32位小写十六进制字符串
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static String getFastCleanUid() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & ~0xC000000000000000L) | 0x8000000000000000L;
+        return toCleanString(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * 获取按时间递增的UUID（版本7）
+     * 高48位为毫秒时间戳，同一JVM内生成的UUID严格递增（同一毫秒内使用计数器，计数器用完时借用下一毫秒），
+     * 随机部分使用ThreadLocalRandom，不能用于安全场景
+     *
+     * @return java.util.UUID UUID
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static UUID getUuidV7() {
+        long state = nextV7State();
+        long mostSigBits = (state >>> V7_COUNTER_BITS) << 16 | 0x7000L | (state & 0xFFFL);
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & ~0xC000000000000000L) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * 获取去掉"-"后的按时间递增的UUID（版本7），字符串的字典序与生成顺序一致
+     *
+     * @return java.lang.String 32位小写十六进制字符串
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static String getCleanUuidV7() {
+        return toCleanString(getUuidV7());
+    }
+
+    /**
+     * 获取Base62编码的按时间递增的UUID（版本7），22个字符，字典序与生成顺序一致
+     *
+     * @return java.lang.String 22位Base62字符串
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static String getCompactUuidV7() {
+        return IdCodec.BASE62.encode(getUuidV7());
+    }
+
+    /**
+     * UUID转为去掉"-"的32位小写十六进制字符串
+     *
+     * @param uuid UUID
+     * @return java.lang.String 32位小写十六进制字符串
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static String toCleanString(UUID uuid) {
+        Objects.requireNonNull(uuid, NULL_UUID);
+        return toCleanString(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    private static String toCleanString(long mostSigBits, long leastSigBits) {
+        char[] buf = new char[32];
+        NumberUtils.writeHex(mostSigBits, 16, buf, 0);
+        NumberUtils.writeHex(leastSigBits, 16, buf, 16);
+        return new String(buf);
+    }
+
+    private static long nextV7State() {
+        long counterMask = ~(-1L << V7_COUNTER_BITS);
+        for (;;) {
+            long current = V7_STATE.get();
+            long now = System.currentTimeMillis();
+            long next;
+            if (now > current >>> V7_COUNTER_BITS) {
+                next = now << V7_COUNTER_BITS | ThreadLocalRandom.current().nextInt(1 << (V7_COUNTER_BITS - 1));
+            } else if ((current & counterMask) < counterMask) {
+                next = current + 1;
+            } else {
+                // 计数器用完时借用下一毫秒，保持递增
+                next = ((current >>> V7_COUNTER_BITS) + 1) << V7_COUNTER_BITS;
+            }
+            if (V7_STATE.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * 使用默认的雪花算法生成器生成按时间递增的64位ID
+     * 默认生成器的数据中心ID与机器ID必须通过系统属性 soon.uid.datacenter 和 soon.uid.worker 指定（0-31），
+     * 或者通过{@link #setSnowflake(SnowflakeIdGenerator)}指定生成器；未指定时抛出异常，不会自动推算节点ID，
+     * 避免多个节点使用相同的节点ID生成重复的ID
+     *
+     * @return long ID
+     * @throws IllegalStateException 未配置节点ID或配置超出范围时抛出
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static long nextId() {
+        return getSnowflake().nextId();
+    }
+
+    /**
+     * 获取默认的雪花算法生成器，首次调用时根据系统属性创建
+     *
+     * @return com.soon.utils.uid.SnowflakeIdGenerator 生成器
+     * @throws IllegalStateException 未配置节点ID或配置超出范围时抛出
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static SnowflakeIdGenerator getSnowflake() {
+        SnowflakeIdGenerator generator = snowflake;
+        if (generator == null) {
+            synchronized (UidGenerator.class) {
+                generator = snowflake;
+                if (generator == null) {
+                    generator = createDefaultSnowflake();
+                    snowflake = generator;
+                }
+            }
+        }
+        return generator;
+    }
+
+    /**
+     * 指定默认的雪花算法生成器，例如由配置中心或注册中心分配节点ID后调用
+     *
+     * @param generator 生成器，为null时下次使用时重新根据系统属性创建
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static void setSnowflake(SnowflakeIdGenerator generator) {
+        synchronized (UidGenerator.class) {
+            snowflake = generator;
+        }
+    }
+
+    /**
+     * 创建号段ID分配器，各节点从共享的号段存储中批量租用ID，本地分配并异步预取下一个号段
+     * 例如：
+     * SegmentStore store = FileSegmentStore.create(dir);
+     * SegmentIdAllocator orders = UidGenerator.createSegmentAllocator(store, "order", 10000);
+     * SegmentIdAllocator payments = UidGenerator.createSegmentAllocator(store, "payment", 10000);
+     * long id = orders.nextId();
+     * 分配器应长期持有，不要每次生成ID都重新创建
+     *
+     * @param store 号段存储
+     * @param key 业务标识
+     * @param step 每次租用的号段长度
+     * @return com.soon.utils.uid.SegmentIdAllocator 分配器
+     * @throws IOException 租用第一个号段失败时抛出
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static SegmentIdAllocator createSegmentAllocator(SegmentStore store, String key, int step) throws IOException {
+        return SegmentIdAllocator.create(store, key, step);
+    }
+
+    private static SnowflakeIdGenerator createDefaultSnowflake() {
+        long datacenterId = nodeProperty(DATACENTER_PROPERTY);
+        long workerId = nodeProperty(WORKER_PROPERTY);
+        try {
+            return SnowflakeIdGenerator.create(datacenterId, workerId);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(String.format("雪花算法的节点ID超出范围0-31：%s=%d，%s=%d",
+                    DATACENTER_PROPERTY, datacenterId, WORKER_PROPERTY, workerId), e);
+        }
+    }
+
+    private static long nodeProperty(String name) {
+        String value = System.getProperty(name);
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalStateException("未配置雪花算法的节点ID，请设置系统属性 " + DATACENTER_PROPERTY + " 和 "
+                    + WORKER_PROPERTY + "（0-31），或通过UidGenerator.setSnowflake指定生成器");
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("系统属性 " + name + " 不是整数：" + value, e);
+        }
     }
 }
@@ -0,0 +1,51 @@
+package com.soon.utils.bean;
+
+import net.sf.cglib.core.Converter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基于属性访问器的拷贝器，拷贝规则与cglib的BeanCopier一致
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+final class AccessorCopier implements Copier {
+    private final BeanProperties.Property[] sourceProperties;
+    private final BeanProperties.Property[] targetProperties;
+    private final boolean useConverter;
+
+    AccessorCopier(BeanProperties source, BeanProperties target, boolean useConverter) {
+        List<BeanProperties.Property> sources = new ArrayList<>();
+        List<BeanProperties.Property> targets = new ArrayList<>();
+        for (BeanProperties.Property targetProperty : target.getProperties()) {
+            BeanProperties.Property sourceProperty = source.getProperty(targetProperty.getName());
+            if (!targetProperty.isWritable() || sourceProperty == null || !sourceProperty.isReadable()) {
+                continue;
+            }
+            if (useConverter || targetProperty.getType().isAssignableFrom(sourceProperty.getType())) {
+                sources.add(sourceProperty);
+                targets.add(targetProperty);
+            }
+        }
+        this.sourceProperties = sources.toArray(new BeanProperties.Property[0]);
+        this.targetProperties = targets.toArray(new BeanProperties.Property[0]);
+        this.useConverter = useConverter;
+    }
+
+    @Override
+    public void copy(Object source, Object target, Converter converter) {
+        for (int i = 0; i < sourceProperties.length; i++) {
+            BeanProperties.Property targetProperty = targetProperties[i];
+            Object value = sourceProperties[i].get(source);
+            if (useConverter) {
+                value = converter.convert(value, targetProperty.getType(), targetProperty.getSetterName());
+                if (value == null && targetProperty.getType().isPrimitive()) {
+                    value = BeanProperties.zeroValue(targetProperty.getType());
+                }
+            }
+            targetProperty.set(target, value);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.soon.utils.bean;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 属性访问器的生成工具
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+final class Accessors {
+    private Accessors() {}
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * 生成getter访问器
+     * 方法及其所在类均为public且对当前类加载器可见时，通过LambdaMetafactory生成，否则使用MethodHandle
+     *
+     * @param method getter方法
+     * @return java.util.function.Function<java.lang.Object,java.lang.Object> 访问器
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> lambdaGetter(Method method) {
+        MethodHandle handle = unreflect(method);
+        if (isLinkable(method)) {
+            try {
+                MethodType instantiated = MethodType.methodType(
+                        MethodType.methodType(method.getReturnType()).wrap().returnType(), method.getDeclaringClass());
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply", MethodType.methodType(Function.class),
+                        GETTER_TYPE, handle, instantiated);
+                return (Function<Object, Object>) site.getTarget().invoke();
+            } catch (Throwable ignored) {
+                // 生成失败时使用MethodHandle
+            }
+        }
+        MethodHandle generic = handle.asType(GETTER_TYPE);
+        return bean -> {
+            try {
+                return generic.invokeExact(bean);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        };
+    }
+
+    /**
+     * 生成setter访问器
+     * 方法及其所在类均为public且对当前类加载器可见时，通过LambdaMetafactory生成，否则使用MethodHandle
+     *
+     * @param method setter方法
+     * @return java.util.function.BiConsumer<java.lang.Object,java.lang.Object> 访问器
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    @SuppressWarnings("unchecked")
+    static BiConsumer<Object, Object> lambdaSetter(Method method) {
+        MethodHandle handle = unreflect(method);
+        if (isLinkable(method)) {
+            try {
+                MethodType instantiated = MethodType.methodType(void.class, method.getDeclaringClass(),
+                        MethodType.methodType(method.getParameterTypes()[0]).wrap().returnType());
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "accept", MethodType.methodType(BiConsumer.class),
+                        SETTER_TYPE, handle, instantiated);
+                return (BiConsumer<Object, Object>) site.getTarget().invoke();
+            } catch (Throwable ignored) {
+                // 生成失败时使用MethodHandle
+            }
+        }
+        MethodHandle generic = handle.asType(SETTER_TYPE);
+        return (bean, value) -> {
+            try {
+                generic.invokeExact(bean, value);
+            } catch (Throwable e) {
+                throw propagate(e);
+            }
+        };
+    }
+
+    /**
+     * 生成通过反射调用的getter访问器
+     *
+     * @param method getter方法
+     * @return java.util.function.Function<java.lang.Object,java.lang.Object> 访问器
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    static Function<Object, Object> reflectGetter(Method method) {
+        makeAccessible(method);
+        return bean -> {
+            try {
+                return method.invoke(bean);
+            } catch (InvocationTargetException e) {
+                throw propagate(e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    /**
+     * 生成通过反射调用的setter访问器
+     *
+     * @param method setter方法
+     * @return java.util.function.BiConsumer<java.lang.Object,java.lang.Object> 访问器
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    static BiConsumer<Object, Object> reflectSetter(Method method) {
+        makeAccessible(method);
+        return (bean, value) -> {
+            try {
+                method.invoke(bean, value);
+            } catch (InvocationTargetException e) {
+                throw propagate(e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        makeAccessible(method);
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void makeAccessible(Method method) {
+        if (!Modifier.isPublic(method.getModifiers()) || !isPublic(method.getDeclaringClass())) {
+            method.setAccessible(true);
+        }
+    }
+
+    /**
+     * 生成的lambda类位于当前类所在的包和类加载器中，只有能直接链接到目标方法时才可以使用LambdaMetafactory
+     */
+    private static boolean isLinkable(Method method) {
+        if (!Modifier.isPublic(method.getModifiers()) || !isLinkable(method.getDeclaringClass())) {
+            return false;
+        }
+        for (Class<?> type : method.getParameterTypes()) {
+            if (!isLinkable(type)) {
+                return false;
+            }
+        }
+        return isLinkable(method.getReturnType());
+    }
+
+    private static boolean isLinkable(Class<?> type) {
+        Class<?> c = type;
+        while (c.isArray()) {
+            c = c.getComponentType();
+        }
+        if (c.isPrimitive()) {
+            return true;
+        }
+        if (!isPublic(c)) {
+            return false;
+        }
+        try {
+            return Class.forName(c.getName(), false, Accessors.class.getClassLoader()) == c;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static boolean isPublic(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getEnclosingClass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static RuntimeException propagate(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new UndeclaredThrowableException(e);
+    }
+}
@@ -0,0 +1,108 @@
+package com.soon.utils.bean;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 补丁拷贝器
+ * 只拷贝源对象中不为null的属性，并记录目标对象中值发生变化的属性
+ * 属性的下标即为{@link #getPropertyNames()}中的下标
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public final class BeanPatcher {
+    private final BeanProperties.Property[] sourceProperties;
+    private final BeanProperties.Property[] targetProperties;
+    private final List<String> propertyNames;
+
+    private BeanPatcher(BeanProperties source, BeanProperties target) {
+        List<BeanProperties.Property> sources = new ArrayList<>();
+        List<BeanProperties.Property> targets = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (BeanProperties.Property targetProperty : target.getProperties()) {
+            BeanProperties.Property sourceProperty = source.getProperty(targetProperty.getName());
+            if (!targetProperty.isWritable() || sourceProperty == null || !sourceProperty.isReadable()) {
+                continue;
+            }
+            if (targetProperty.getType().isAssignableFrom(sourceProperty.getType())) {
+                sources.add(sourceProperty);
+                targets.add(targetProperty);
+                names.add(targetProperty.getName());
+            }
+        }
+        this.sourceProperties = sources.toArray(new BeanProperties.Property[0]);
+        this.targetProperties = targets.toArray(new BeanProperties.Property[0]);
+        this.propertyNames = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * 创建补丁拷贝器，只会处理名称相同且类型兼容的属性
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     * @return com.soon.utils.bean.BeanPatcher 补丁拷贝器
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static BeanPatcher create(Class<?> sourceClass, Class<?> targetClass) {
+        return new BeanPatcher(BeanProperties.of(sourceClass), BeanProperties.of(targetClass));
+    }
+
+    /**
+     * 将源对象中不为null的属性拷贝到目标对象中，与目标值相同的属性（包括基本类型）不拷贝、不记录
+     * 目标属性不可读时，视为发生了变化
+     *
+     * @param source 源对象
+     * @param target 目标对象
+     * @return java.util.BitSet 发生变化的属性下标
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public BitSet patch(Object source, Object target) {
+        BitSet changed = new BitSet(sourceProperties.length);
+        for (int i = 0; i < sourceProperties.length; i++) {
+            Object value = sourceProperties[i].get(source);
+            if (value == null) {
+                continue;
+            }
+            BeanProperties.Property targetProperty = targetProperties[i];
+            if (targetProperty.isReadable() && Objects.equals(value, targetProperty.get(target))) {
+                continue;
+            }
+            targetProperty.set(target, value);
+            changed.set(i);
+        }
+        return changed;
+    }
+
+    /**
+     * 获取参与拷贝的属性名
+     *
+     * @return java.util.List<java.lang.String> 属性名，按下标排列
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public List<String> getPropertyNames() {
+        return propertyNames;
+    }
+
+    /**
+     * 将下标集合转换为属性名
+     *
+     * @param indexes 属性下标
+     * @return java.util.List<java.lang.String> 属性名
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public List<String> getPropertyNames(BitSet indexes) {
+        List<String> names = new ArrayList<>(indexes.cardinality());
+        for (int i = indexes.nextSetBit(0); i >= 0; i = indexes.nextSetBit(i + 1)) {
+            names.add(propertyNames.get(i));
+        }
+        return names;
+    }
+}
@@ -0,0 +1,294 @@
+package com.soon.utils.bean;
+
+import net.sf.cglib.core.Converter;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 类的属性信息，按类缓存，属性的访问器只会生成一次
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public final class BeanProperties {
+    private static final ClassValue<BeanProperties> LAMBDA_PROPERTIES = new ClassValue<BeanProperties>() {
+        @Override
+        protected BeanProperties computeValue(Class<?> type) {
+            return new BeanProperties(type, true);
+        }
+    };
+
+    private static final ClassValue<BeanProperties> REFLECT_PROPERTIES = new ClassValue<BeanProperties>() {
+        @Override
+        protected BeanProperties computeValue(Class<?> type) {
+            return new BeanProperties(type, false);
+        }
+    };
+
+    private final Class<?> type;
+    private final List<Property> properties;
+    private final Map<String, Property> propertyMap;
+    private volatile Constructor<?> constructor;
+
+    private BeanProperties(Class<?> type, boolean lambda) {
+        this.type = type;
+        BeanInfo beanInfo;
+        try {
+            beanInfo = Introspector.getBeanInfo(type);
+        } catch (IntrospectionException e) {
+            throw new IllegalArgumentException(e);
+        }
+        List<Property> list = new ArrayList<>();
+        Map<String, Property> map = new LinkedHashMap<>();
+        for (PropertyDescriptor descriptor : beanInfo.getPropertyDescriptors()) {
+            if (descriptor.getPropertyType() == null || "class".equals(descriptor.getName())) {
+                continue;
+            }
+            Property property = new Property(descriptor, lambda);
+            list.add(property);
+            map.put(property.name, property);
+        }
+        this.properties = Collections.unmodifiableList(list);
+        this.propertyMap = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * 获取类的属性信息，访问器通过LambdaMetafactory生成
+     *
+     * @param type 类
+     * @return com.soon.utils.bean.BeanProperties 属性信息
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static BeanProperties of(Class<?> type) {
+        return of(type, true);
+    }
+
+    static BeanProperties of(Class<?> type, boolean lambda) {
+        return lambda ? LAMBDA_PROPERTIES.get(type) : REFLECT_PROPERTIES.get(type);
+    }
+
+    /**
+     * 获取类
+     *
+     * @return java.lang.Class<?> 类
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * 获取所有属性，按照属性名排序
+     *
+     * @return java.util.List<com.soon.utils.bean.BeanProperties.Property> 属性列表
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public List<Property> getProperties() {
+        return properties;
+    }
+
+    /**
+     * 根据属性名获取属性
+     *
+     * @param name 属性名
+     * @return com.soon.utils.bean.BeanProperties.Property
+     *         属性
+     *         null 属性不存在时
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public Property getProperty(String name) {
+        return propertyMap.get(name);
+    }
+
+    /**
+     * 通过无参构造方法创建实例
+     *
+     * @return java.lang.Object 实例
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public Object newInstance() {
+        Constructor<?> c = constructor;
+        try {
+            if (c == null) {
+                c = type.getDeclaredConstructor();
+                c.setAccessible(true);
+                constructor = c;
+            }
+            return c.newInstance();
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * 将对象的所有可读属性放入Map中
+     *
+     * @param bean 对象
+     * @return java.util.Map<java.lang.String,java.lang.Object> 属性名与属性值，按照属性名排序
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public Map<String, Object> toMap(Object bean) {
+        Map<String, Object> map = new LinkedHashMap<>((int) (properties.size() / 0.75F) + 1);
+        for (Property property : properties) {
+            if (property.isReadable()) {
+                map.put(property.name, property.get(bean));
+            }
+        }
+        return map;
+    }
+
+    /**
+     * 将Map中的值写入对象的同名属性
+     * 不使用转换器时，跳过类型不兼容的值
+     * 使用转换器时，转换结果为null的基本类型属性设置为零值
+     *
+     * @param map 属性名与属性值
+     * @param bean 对象
+     * @param converter 转换器，可为null
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public void populate(Map<String, ?> map, Object bean, Converter converter) {
+        for (Map.Entry<String, ?> entry : map.entrySet()) {
+            Property property = propertyMap.get(entry.getKey());
+            if (property == null || !property.isWritable()) {
+                continue;
+            }
+            Object value = entry.getValue();
+            if (converter != null) {
+                value = converter.convert(value, property.type, property.setterName);
+                if (value == null && property.type.isPrimitive()) {
+                    value = zeroValue(property.type);
+                }
+            } else if (value == null ? property.type.isPrimitive() : !property.boxedType.isInstance(value)) {
+                continue;
+            }
+            property.set(bean, value);
+        }
+    }
+
+    /**
+     * 基本类型的零值，与cglib一致
+     */
+    static Object zeroValue(Class<?> type) {
+        if (type == boolean.class) {
+            return Boolean.FALSE;
+        }
+        if (type == char.class) {
+            return (char) 0;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0F;
+        }
+        return 0D;
+    }
+
+    /**
+     * 属性
+     */
+    public static final class Property {
+        private final String name;
+        private final Class<?> type;
+        private final Class<?> boxedType;
+        private final String setterName;
+        private final Function<Object, Object> getter;
+        private final BiConsumer<Object, Object> setter;
+
+        private Property(PropertyDescriptor descriptor, boolean lambda) {
+            this.name = descriptor.getName();
+            this.type = descriptor.getPropertyType();
+            this.boxedType = MethodType.methodType(type).wrap().returnType();
+            Method readMethod = descriptor.getReadMethod();
+            Method writeMethod = descriptor.getWriteMethod();
+            this.setterName = writeMethod == null ? null : writeMethod.getName();
+            if (readMethod == null) {
+                this.getter = null;
+            } else {
+                this.getter = lambda ? Accessors.lambdaGetter(readMethod) : Accessors.reflectGetter(readMethod);
+            }
+            if (writeMethod == null) {
+                this.setter = null;
+            } else {
+                this.setter = lambda ? Accessors.lambdaSetter(writeMethod) : Accessors.reflectSetter(writeMethod);
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        public String getSetterName() {
+            return setterName;
+        }
+
+        public boolean isReadable() {
+            return getter != null;
+        }
+
+        public boolean isWritable() {
+            return setter != null;
+        }
+
+        /**
+         * 读取属性值
+         *
+         * @param bean 对象
+         * @return java.lang.Object 属性值
+         * @author HuYiGong
+         * @since 2026/10/19
+         */
+        public Object get(Object bean) {
+            return getter.apply(bean);
+        }
+
+        /**
+         * 写入属性值
+         *
+         * @param bean 对象
+         * @param value 属性值
+         * @author HuYiGong
+         * @since 2026/10/19
+         */
+        public void set(Object bean, Object value) {
+            setter.accept(bean, value);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.soon.utils.bean;
+
+import net.sf.cglib.core.Converter;
+
+/**
+ * 属性拷贝器，由{@link CopierEngine}针对一对源类型和目标类型生成
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public interface Copier {
+    /**
+     * 从源对象中拷贝属性到目标对象中
+     *
+     * @param source 源对象
+     * @param target 目标对象
+     * @param converter 转换器，未使用转换器时可为null
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    void copy(Object source, Object target, Converter converter);
+}
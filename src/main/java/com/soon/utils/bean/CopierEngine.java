@@ -0,0 +1,61 @@
+package com.soon.utils.bean;
+
+import net.sf.cglib.beans.BeanCopier;
+
+/**
+ * 拷贝器引擎
+ * CGLIB：使用cglib的BeanCopier生成字节码，新版本JDK下会有非法访问的警告
+ * LAMBDA：使用LambdaMetafactory生成属性的访问器，无法生成时退化为MethodHandle
+ * REFLECT：使用反射调用属性的访问器
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public enum CopierEngine {
+    /**
+     * cglib
+     */
+    CGLIB {
+        @Override
+        public Copier create(Class<?> sourceClass, Class<?> targetClass, boolean useConverter) {
+            BeanCopier copier = BeanCopier.create(sourceClass, targetClass, useConverter);
+            return copier::copy;
+        }
+    },
+
+    /**
+     * LambdaMetafactory
+     */
+    LAMBDA {
+        @Override
+        public Copier create(Class<?> sourceClass, Class<?> targetClass, boolean useConverter) {
+            return new AccessorCopier(BeanProperties.of(sourceClass, true),
+                    BeanProperties.of(targetClass, true), useConverter);
+        }
+    },
+
+    /**
+     * 反射
+     */
+    REFLECT {
+        @Override
+        public Copier create(Class<?> sourceClass, Class<?> targetClass, boolean useConverter) {
+            return new AccessorCopier(BeanProperties.of(sourceClass, false),
+                    BeanProperties.of(targetClass, false), useConverter);
+        }
+    };
+
+    /**
+     * 生成拷贝器
+     * 不使用转换器时，只会拷贝名称相同且类型兼容的属性
+     * 使用转换器时，会拷贝所有名称相同的属性
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     * @param useConverter 是否使用转换器
+     * @return com.soon.utils.bean.Copier 拷贝器
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public abstract Copier create(Class<?> sourceClass, Class<?> targetClass, boolean useConverter);
+}
@@ -0,0 +1,259 @@
+package com.soon.utils.bean;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.beans.Introspector;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * {@link GenerateCopier}的注解处理器
+ * 为每一组类型生成直接调用getter/setter的拷贝器，拷贝规则与BeanCopier不使用转换器时一致，
+ * 并写入META-INF/services/com.soon.utils.bean.PregeneratedCopier（与输出目录中已有的内容合并）
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public class CopierProcessor extends AbstractProcessor {
+    private static final String COPIER_INTERFACE = "com.soon.utils.bean.PregeneratedCopier";
+    private static final String SERVICE_FILE = "META-INF/services/" + COPIER_INTERFACE;
+
+    private final Set<String> generatedClasses = new LinkedHashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new HashSet<>(Arrays.asList(GenerateCopier.class.getCanonicalName(),
+                GenerateCopiers.class.getCanonicalName()));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+                    processAnnotation(element, mirror);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void processAnnotation(Element element, AnnotationMirror mirror) {
+        String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+        if (GenerateCopier.class.getCanonicalName().equals(name)) {
+            generate(element, mirror);
+        } else if (GenerateCopiers.class.getCanonicalName().equals(name)) {
+            Object value = getValue(mirror, "value");
+            if (value instanceof List) {
+                for (Object item : (List<?>) value) {
+                    generate(element, (AnnotationMirror) ((AnnotationValue) item).getValue());
+                }
+            }
+        }
+    }
+
+    private void generate(Element element, AnnotationMirror mirror) {
+        TypeElement source = (TypeElement) ((DeclaredType) getValue(mirror, "source")).asElement();
+        TypeElement target = (TypeElement) ((DeclaredType) getValue(mirror, "target")).asElement();
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(element);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        if (!isAccessible(source, packageName) || !isAccessible(target, packageName)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "source和target必须为public或与被注解的类位于同一个包", element, mirror);
+            return;
+        }
+        String simpleName = source.getSimpleName() + "To" + target.getSimpleName() + "Copier";
+        String className = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        for (int i = 2; generatedClasses.contains(className); i++) {
+            className = (packageName.isEmpty() ? "" : packageName + ".") + simpleName + i;
+        }
+        String generatedName = className.substring(className.lastIndexOf('.') + 1);
+        Map<String, ExecutableElement> getters = getAccessors(source, true);
+        Map<String, ExecutableElement> setters = getAccessors(target, false);
+        Types types = processingEnv.getTypeUtils();
+        StringBuilder body = new StringBuilder();
+        for (Map.Entry<String, ExecutableElement> entry : setters.entrySet()) {
+            ExecutableElement getter = getters.get(entry.getKey());
+            if (getter == null) {
+                continue;
+            }
+            ExecutableElement setter = entry.getValue();
+            TypeMirror from = types.erasure(getter.getReturnType());
+            TypeMirror to = types.erasure(setter.getParameters().get(0).asType());
+            boolean primitive = from.getKind().isPrimitive() || to.getKind().isPrimitive();
+            if (primitive ? !types.isSameType(from, to) : !types.isSubtype(from, to)) {
+                continue;
+            }
+            body.append("        t.").append(setter.getSimpleName()).append('(');
+            if (!primitive) {
+                body.append('(').append(to).append(") ");
+            }
+            body.append("s.").append(getter.getSimpleName()).append("());\n");
+        }
+        String sourceName = types.erasure(source.asType()).toString();
+        String targetName = types.erasure(target.asType()).toString();
+        try {
+            Filer filer = processingEnv.getFiler();
+            try (Writer writer = filer.createSourceFile(className, element).openWriter()) {
+                if (!packageName.isEmpty()) {
+                    writer.write("package " + packageName + ";\n\n");
+                }
+                writer.write("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+                writer.write("public final class " + generatedName + " implements " + COPIER_INTERFACE + " {\n");
+                writer.write("    @Override\n    public Class<?> getSourceClass() {\n        return "
+                        + sourceName + ".class;\n    }\n\n");
+                writer.write("    @Override\n    public Class<?> getTargetClass() {\n        return "
+                        + targetName + ".class;\n    }\n\n");
+                writer.write("    @Override\n    public void copy(Object source, Object target, "
+                        + "net.sf.cglib.core.Converter converter) {\n");
+                writer.write("        " + sourceName + " s = (" + sourceName + ") source;\n");
+                writer.write("        " + targetName + " t = (" + targetName + ") target;\n");
+                writer.write(body.toString());
+                writer.write("    }\n}\n");
+            }
+            generatedClasses.add(className);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.toString(), element, mirror);
+        }
+    }
+
+    /**
+     * 获取类及其父类中的getter或setter，按照属性名排序
+     */
+    private Map<String, ExecutableElement> getAccessors(TypeElement type, boolean getter) {
+        Map<String, ExecutableElement> accessors = new TreeMap<>();
+        List<? extends Element> members = processingEnv.getElementUtils().getAllMembers(type);
+        for (ExecutableElement method : ElementFilter.methodsIn(members)) {
+            Set<Modifier> modifiers = method.getModifiers();
+            // 与Introspector一致，只使用public的方法
+            if (modifiers.contains(Modifier.STATIC) || !modifiers.contains(Modifier.PUBLIC)) {
+                continue;
+            }
+            String name = method.getSimpleName().toString();
+            String property = null;
+            if (getter) {
+                TypeMirror returnType = method.getReturnType();
+                if (!method.getParameters().isEmpty() || returnType.getKind() == TypeKind.VOID) {
+                    continue;
+                }
+                if (name.startsWith("get") && name.length() > 3) {
+                    property = name.substring(3);
+                } else if (name.startsWith("is") && name.length() > 2 && returnType.getKind() == TypeKind.BOOLEAN) {
+                    property = name.substring(2);
+                }
+            } else if (name.startsWith("set") && name.length() > 3 && method.getParameters().size() == 1
+                    && method.getReturnType().getKind() == TypeKind.VOID) {
+                property = name.substring(3);
+            }
+            if (property != null && !"Class".equals(property)) {
+                accessors.putIfAbsent(Introspector.decapitalize(property), method);
+            }
+        }
+        return accessors;
+    }
+
+    private boolean isAccessible(Element element, String packageName) {
+        Set<Modifier> modifiers = element.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return !(element.getEnclosingElement() instanceof TypeElement)
+                    || isAccessible(element.getEnclosingElement(), packageName);
+        }
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        String elementPackage = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+        return elementPackage.equals(packageName);
+    }
+
+    private static Object getValue(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 增量编译时只处理了变化的类，需要合并已有的服务文件，去掉已经不存在的拷贝器
+     */
+    private void writeServiceFile() {
+        if (generatedClasses.isEmpty()) {
+            return;
+        }
+        Set<String> classNames = new TreeSet<>(generatedClasses);
+        for (String existing : readServiceFile()) {
+            if (processingEnv.getElementUtils().getTypeElement(existing) != null) {
+                classNames.add(existing);
+            }
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String className : classNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.toString());
+        }
+    }
+
+    private List<String> readServiceFile() {
+        List<String> classNames = new ArrayList<>();
+        try {
+            FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (BufferedReader reader = new BufferedReader(file.openReader(true))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int comment = line.indexOf('#');
+                    String className = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                    if (!className.isEmpty()) {
+                        classNames.add(className);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            // 第一次编译时文件不存在
+        }
+        return classNames;
+    }
+}
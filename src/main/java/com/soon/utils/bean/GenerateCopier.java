@@ -0,0 +1,36 @@
+package com.soon.utils.bean;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 声明需要在编译期生成拷贝器的类型对，由{@link CopierProcessor}处理
+ * 生成的拷贝器与被注解的类位于同一个包，并通过ServiceLoader注册，
+ * {@link com.soon.utils.BeanCopierUtils#copy(Object, Object)}会优先使用
+ * 例如：
+ * 注解处理器单独打包在processor分类的jar中，不会随运行时依赖自动执行，需要显式启用：
+ * gradle中添加 annotationProcessor 'com.soon:soonutils:1.0:processor'（maven中配置annotationProcessorPaths）
+ * 任意类上添加 @GenerateCopier(source = UserDto.class, target = User.class)
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+@Repeatable(GenerateCopiers.class)
+public @interface GenerateCopier {
+    /**
+     * 源类型
+     */
+    Class<?> source();
+
+    /**
+     * 目标类型
+     */
+    Class<?> target();
+}
@@ -0,0 +1,20 @@
+package com.soon.utils.bean;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link GenerateCopier}的容器注解
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateCopiers {
+    GenerateCopier[] value();
+}
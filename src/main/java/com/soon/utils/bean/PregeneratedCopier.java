@@ -0,0 +1,27 @@
+package com.soon.utils.bean;
+
+/**
+ * 编译期生成的拷贝器，只拷贝名称相同且类型兼容的属性，不使用转换器
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public interface PregeneratedCopier extends Copier {
+    /**
+     * 获取源类型
+     *
+     * @return java.lang.Class<?> 源类型
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    Class<?> getSourceClass();
+
+    /**
+     * 获取目标类型
+     *
+     * @return java.lang.Class<?> 目标类型
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    Class<?> getTargetClass();
+}
@@ -0,0 +1,118 @@
+package com.soon.utils.bean;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+
+/**
+ * 编译期生成的拷贝器注册表，按类加载器通过ServiceLoader加载
+ * 每个类加载器只加载一次，结果挂在源类型上（ClassValue），不被静态字段强引用，类加载器卸载后一起回收；
+ * 多个应用共用本库时，各自只会找到自己的类加载器可见的拷贝器
+ * 可通过系统属性 -Dsoon.copier.pregenerated=false 关闭，用于对比启动耗时
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public final class PregeneratedCopiers {
+    private PregeneratedCopiers() {}
+
+    public static final String ENABLED_PROPERTY = "soon.copier.pregenerated";
+
+    /**
+     * 源类型的类加载器可见的所有拷贝器，按源类型、目标类型索引
+     */
+    private static final ClassValue<Map<Class<?>, Map<Class<?>, Copier>>> REGISTRIES =
+            new ClassValue<Map<Class<?>, Map<Class<?>, Copier>>>() {
+                @Override
+                protected Map<Class<?>, Map<Class<?>, Copier>> computeValue(Class<?> type) {
+                    return registry(type.getClassLoader());
+                }
+            };
+
+    /**
+     * 已加载的注册表，键和值都是弱引用，只用于同一个类加载器下的多个源类型共用一次加载结果
+     */
+    private static final Map<ClassLoader, WeakReference<Map<Class<?>, Map<Class<?>, Copier>>>> LOADED =
+            new WeakHashMap<>();
+
+    /**
+     * 获取编译期生成的拷贝器，先从源类型的类加载器查找，再从目标类型的类加载器查找
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     * @return com.soon.utils.bean.Copier
+     *         拷贝器
+     *         null 未生成时
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static Copier find(Class<?> sourceClass, Class<?> targetClass) {
+        Copier copier = find(REGISTRIES.get(sourceClass), sourceClass, targetClass);
+        if (copier == null && targetClass.getClassLoader() != sourceClass.getClassLoader()) {
+            copier = find(REGISTRIES.get(targetClass), sourceClass, targetClass);
+        }
+        return copier;
+    }
+
+    /**
+     * 获取类加载器可见的拷贝器数量
+     *
+     * @param classLoader 类加载器
+     * @return int 拷贝器数量
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static int size(ClassLoader classLoader) {
+        int size = 0;
+        for (Map<Class<?>, Copier> copiers : registry(classLoader).values()) {
+            size += copiers.size();
+        }
+        return size;
+    }
+
+    private static Copier find(Map<Class<?>, Map<Class<?>, Copier>> registry, Class<?> sourceClass,
+                               Class<?> targetClass) {
+        Map<Class<?>, Copier> copiers = registry.get(sourceClass);
+        return copiers == null ? null : copiers.get(targetClass);
+    }
+
+    private static Map<Class<?>, Map<Class<?>, Copier>> registry(ClassLoader classLoader) {
+        if (classLoader == null || !Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"))) {
+            return Collections.emptyMap();
+        }
+        synchronized (LOADED) {
+            WeakReference<Map<Class<?>, Map<Class<?>, Copier>>> reference = LOADED.get(classLoader);
+            Map<Class<?>, Map<Class<?>, Copier>> registry = reference == null ? null : reference.get();
+            if (registry == null) {
+                registry = load(classLoader);
+                LOADED.put(classLoader, new WeakReference<>(registry));
+            }
+            return registry;
+        }
+    }
+
+    private static Map<Class<?>, Map<Class<?>, Copier>> load(ClassLoader classLoader) {
+        Map<Class<?>, Map<Class<?>, Copier>> copiers = new HashMap<>();
+        Iterator<PregeneratedCopier> iterator = ServiceLoader.load(PregeneratedCopier.class, classLoader).iterator();
+        while (true) {
+            PregeneratedCopier copier;
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                copier = iterator.next();
+            } catch (ServiceConfigurationError ignored) {
+                // 跳过无法加载的拷贝器，使用运行时生成
+                continue;
+            }
+            copiers.computeIfAbsent(copier.getSourceClass(), k -> new HashMap<>())
+                    .put(copier.getTargetClass(), copier);
+        }
+        return copiers;
+    }
+}
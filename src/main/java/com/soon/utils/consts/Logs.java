@@ -10,4 +10,5 @@ public class Logs {
     private Logs(){}
     public static final String HTTP_ERROR_LOG = "接口调用失败！\nurl：{}\nparams：{}\n{}";
     public static final String HTTP_INFO_LOG = "{} ===> {}";
+    public static final String BEAN_REF_WARM_UP_LOG = "预先解析bean失败，使用时再解析：{}";
 }
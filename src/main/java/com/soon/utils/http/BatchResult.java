@@ -0,0 +1,75 @@
+package com.soon.utils.http;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 批量请求中单个请求的结果
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public class BatchResult<T> {
+    private final String url;
+    private final T value;
+    private final Throwable error;
+    private final long elapsedMillis;
+
+    BatchResult(String url, T value, Throwable error, long elapsedMillis) {
+        this.url = url;
+        this.value = value;
+        this.error = error;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * 是否请求成功
+     *
+     * @return boolean
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * 是否因超过批量请求的截止时间而未完成
+     *
+     * @return boolean
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public boolean isTimedOut() {
+        return error instanceof TimeoutException;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * 获取响应结果，请求失败时为null
+     *
+     * @return T 响应结果
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * 获取请求失败的原因，成功时为null
+     *
+     * @return java.lang.Throwable 异常
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
@@ -0,0 +1,139 @@
+package com.soon.utils.http;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 无锁的熔断器，按滑动时间窗口统计失败率
+ * 窗口分为固定数量的桶，每个桶记录一段时间内的请求数和失败数，过期的桶在下次写入时通过CAS替换
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class CircuitBreaker {
+    static final int BUCKETS = 10;
+
+    private static final int CLOSED = 0;
+    private static final int OPEN = 1;
+    private static final int HALF_OPEN = 2;
+
+    private final long bucketMillis;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openMillis;
+
+    private final AtomicInteger state = new AtomicInteger(CLOSED);
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(BUCKETS);
+    private volatile long openedAt;
+
+    CircuitBreaker(HostPolicy policy) {
+        this.bucketMillis = policy.getWindowMillis() / BUCKETS;
+        this.failureRateThreshold = policy.getFailureRateThreshold();
+        this.minimumCalls = policy.getMinimumCalls();
+        this.openMillis = policy.getOpenMillis();
+    }
+
+    /**
+     * 是否放行请求；熔断时间结束后只放行一个探测请求，只有探测请求的结果能结束半开状态
+     *
+     * @return com.soon.utils.http.CircuitBreaker.Permit 放行结果
+     */
+    Permit tryAcquire() {
+        int current = state.get();
+        if (current == CLOSED) {
+            return Permit.NORMAL;
+        }
+        if (current == OPEN && System.currentTimeMillis() - openedAt >= openMillis
+                && state.compareAndSet(OPEN, HALF_OPEN)) {
+            return Permit.PROBE;
+        }
+        return Permit.REJECTED;
+    }
+
+    void onSuccess(Permit permit) {
+        if (permit == Permit.PROBE) {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets.set(i, null);
+            }
+            state.compareAndSet(HALF_OPEN, CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    void onFailure(Permit permit) {
+        if (permit == Permit.PROBE) {
+            openedAt = System.currentTimeMillis();
+            state.compareAndSet(HALF_OPEN, OPEN);
+            return;
+        }
+        // 熔断前已放行的请求在熔断期间返回，只计入窗口，不改变状态
+        long epoch = record(true);
+        if (state.get() == CLOSED && isOverThreshold(epoch)) {
+            openedAt = System.currentTimeMillis();
+            state.compareAndSet(CLOSED, OPEN);
+        }
+    }
+
+    boolean isOpen() {
+        return state.get() != CLOSED;
+    }
+
+    private long record(boolean failure) {
+        long epoch = System.currentTimeMillis() / bucketMillis;
+        int index = (int) (epoch % BUCKETS);
+        Bucket bucket = buckets.get(index);
+        while (bucket == null || bucket.epoch < epoch) {
+            Bucket fresh = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                bucket = fresh;
+                break;
+            }
+            bucket = buckets.get(index);
+        }
+        bucket.total.increment();
+        if (failure) {
+            bucket.failures.increment();
+        }
+        return epoch;
+    }
+
+    private boolean isOverThreshold(long epoch) {
+        long total = 0L;
+        long failures = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && epoch - bucket.epoch < BUCKETS) {
+                total += bucket.total.sum();
+                failures += bucket.failures.sum();
+            }
+        }
+        return total >= minimumCalls && failures * 100 >= (long) failureRateThreshold * total;
+    }
+
+    enum Permit {
+        /**
+         * 熔断中，拒绝
+         */
+        REJECTED,
+        /**
+         * 未熔断，正常放行
+         */
+        NORMAL,
+        /**
+         * 半开状态下唯一放行的探测请求
+         */
+        PROBE
+    }
+
+    private static final class Bucket {
+        private final long epoch;
+        private final LongAdder total = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
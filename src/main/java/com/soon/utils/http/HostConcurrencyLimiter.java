@@ -0,0 +1,110 @@
+package com.soon.utils.http;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 按host限制同时进行中的请求数
+ * 许可在响应关闭（响应体读取完毕）时才释放，因此同一host占用的连接数不会超过上限
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class HostConcurrencyLimiter implements ClientHttpRequestInterceptor {
+    private final int maxPerHost;
+    private final long acquireTimeoutMillis;
+    private final ConcurrentMap<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    HostConcurrencyLimiter(int maxPerHost, long acquireTimeoutMillis) {
+        this.maxPerHost = maxPerHost;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String host = hostKey(request.getURI());
+        Semaphore semaphore = permits.computeIfAbsent(host, k -> new Semaphore(maxPerHost));
+        try {
+            if (!semaphore.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IOException("等待连接超时，" + host + "的并发请求已达上限" + maxPerHost);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("等待连接时被中断：" + host);
+        }
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            semaphore.release();
+            throw e;
+        }
+        return new ReleasingResponse(response, semaphore);
+    }
+
+    static String hostKey(URI uri) {
+        return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    }
+
+    private static final class ReleasingResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final Semaphore semaphore;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleasingResponse(ClientHttpResponse delegate, Semaphore semaphore) {
+            this.delegate = delegate;
+            this.semaphore = semaphore;
+        }
+
+        @Override
+        public HttpStatus getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public int getRawStatusCode() throws IOException {
+            return delegate.getRawStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    semaphore.release();
+                }
+            }
+        }
+    }
+}
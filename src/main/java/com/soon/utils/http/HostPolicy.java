@@ -0,0 +1,140 @@
+package com.soon.utils.http;
+
+import com.soon.utils.consts.Tips;
+
+/**
+ * RequestUtils按host设置的重试和熔断策略，设置后不要再修改
+ * 默认不重试、不熔断，与未设置策略时的行为一致，需要显式设置才会启用
+ * 重试只针对幂等的方法（GET、HEAD、OPTIONS、PUT、DELETE、TRACE），并且只在请求还没有发出时进行：
+ * 连接被拒绝、无路由、域名解析失败、连接超时，以及响应502、503、504；连接建立后的IO异常（例如连接被重置、
+ * 读取超时）不重试，避免重复提交；每次重试前等待随机的时间（0到backoffMillis * 2^(次数-1)，不超过maxBackoffMillis）
+ * 熔断按滑动时间窗口统计失败率（IO异常和5xx），一次调用无论重试几次只按最终结果统计一次；
+ * 超过阈值后在openMillis内直接失败，之后放行一个探测请求（不重试），探测成功则恢复，失败则继续熔断
+ * 例如：
+ * HostPolicy policy = new HostPolicy();
+ * policy.setMaxRetries(2);
+ * policy.setCircuitBreakerEnabled(true);
+ * RequestUtils.setHostPolicy("price.example.com", policy);
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public class HostPolicy {
+    /**
+     * 最大重试次数，默认为0（不重试）
+     */
+    private int maxRetries = 0;
+    /**
+     * 第一次重试前最长的等待时间（毫秒）
+     */
+    private long backoffMillis = 100L;
+    /**
+     * 重试前最长的等待时间（毫秒）
+     */
+    private long maxBackoffMillis = 2000L;
+    /**
+     * 是否启用熔断，默认不启用
+     */
+    private boolean circuitBreakerEnabled = false;
+    /**
+     * 触发熔断的失败率（百分比）
+     */
+    private int failureRateThreshold = 50;
+    /**
+     * 窗口内请求数达到该值才计算失败率
+     */
+    private int minimumCalls = 20;
+    /**
+     * 统计失败率的滑动窗口（毫秒）
+     */
+    private long windowMillis = 10000L;
+    /**
+     * 熔断后直接失败的时间（毫秒），之后放行一个探测请求
+     */
+    private long openMillis = 5000L;
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "maxRetries"));
+        }
+        this.maxRetries = maxRetries;
+    }
+
+    public long getBackoffMillis() {
+        return backoffMillis;
+    }
+
+    public void setBackoffMillis(long backoffMillis) {
+        if (backoffMillis < 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "backoffMillis"));
+        }
+        this.backoffMillis = backoffMillis;
+    }
+
+    public long getMaxBackoffMillis() {
+        return maxBackoffMillis;
+    }
+
+    public void setMaxBackoffMillis(long maxBackoffMillis) {
+        if (maxBackoffMillis < 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "maxBackoffMillis"));
+        }
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    public boolean isCircuitBreakerEnabled() {
+        return circuitBreakerEnabled;
+    }
+
+    public void setCircuitBreakerEnabled(boolean circuitBreakerEnabled) {
+        this.circuitBreakerEnabled = circuitBreakerEnabled;
+    }
+
+    public int getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(int failureRateThreshold) {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "failureRateThreshold"));
+        }
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+        if (minimumCalls <= 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "minimumCalls"));
+        }
+        this.minimumCalls = minimumCalls;
+    }
+
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    public void setWindowMillis(long windowMillis) {
+        if (windowMillis < CircuitBreaker.BUCKETS) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "windowMillis"));
+        }
+        this.windowMillis = windowMillis;
+    }
+
+    public long getOpenMillis() {
+        return openMillis;
+    }
+
+    public void setOpenMillis(long openMillis) {
+        if (openMillis <= 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "openMillis"));
+        }
+        this.openMillis = openMillis;
+    }
+}
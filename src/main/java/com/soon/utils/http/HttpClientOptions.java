@@ -0,0 +1,76 @@
+package com.soon.utils.http;
+
+import com.soon.utils.consts.Tips;
+
+/**
+ * RequestUtils共享客户端的配置，默认值读取系统属性：
+ * soon.http.connect-timeout、soon.http.read-timeout、soon.http.max-connections-per-host、soon.http.acquire-timeout
+ * 连接由HttpURLConnection的keep-alive复用，每个host保留的空闲连接数由JDK的系统属性 http.maxConnections 控制（JDK默认5）；
+ * 该属性未设置时，RequestUtils按maxConnectionsPerHost设置，使空闲连接数与并发上限一致。
+ * JDK只在第一次发起HTTP请求前读取该属性，之后通过RequestUtils.configure修改上限不再影响空闲连接数
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public class HttpClientOptions {
+    /**
+     * 连接超时时间（毫秒）
+     */
+    private int connectTimeout = Integer.getInteger("soon.http.connect-timeout", 5000);
+    /**
+     * 读取超时时间（毫秒）
+     */
+    private int readTimeout = Integer.getInteger("soon.http.read-timeout", 30000);
+    /**
+     * 每个host同时进行中的请求数上限，即每个host最多占用的连接数
+     */
+    private int maxConnectionsPerHost = Integer.getInteger("soon.http.max-connections-per-host", 64);
+    /**
+     * 达到上限时等待的最长时间（毫秒），超时后请求失败
+     */
+    private int acquireTimeout = Integer.getInteger("soon.http.acquire-timeout", 5000);
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(int connectTimeout) {
+        if (connectTimeout < 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "connectTimeout"));
+        }
+        this.connectTimeout = connectTimeout;
+    }
+
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(int readTimeout) {
+        if (readTimeout < 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "readTimeout"));
+        }
+        this.readTimeout = readTimeout;
+    }
+
+    public int getMaxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+
+    public void setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+        if (maxConnectionsPerHost <= 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "maxConnectionsPerHost"));
+        }
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+    }
+
+    public int getAcquireTimeout() {
+        return acquireTimeout;
+    }
+
+    public void setAcquireTimeout(int acquireTimeout) {
+        if (acquireTimeout < 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "acquireTimeout"));
+        }
+        this.acquireTimeout = acquireTimeout;
+    }
+}
@@ -0,0 +1,349 @@
+package com.soon.utils.http;
+
+import com.soon.utils.consts.Tips;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * get请求的响应缓存，按url和返回的类别缓存反序列化后的结果
+ * 命中时不加锁，只记录访问时间；容量超出时批量淘汰最久未访问的条目（近似LRU，访问时间精确到毫秒）
+ * 遵循响应头Cache-Control的max-age、no-cache、no-store；过期后带If-None-Match重新验证，304时沿用缓存的结果；
+ * 同一个url并发的请求合并为一次
+ * 缓存的结果会返回给所有调用方，不要修改
+ * 例如：
+ * RequestUtils.setResponseCache(HttpResponseCache.create(1000));
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public class HttpResponseCache {
+    /**
+     * 访问时间的精度，同一个条目在该时间内的多次命中只记录一次，避免热点条目被所有线程反复写入
+     */
+    private static final long ACCESS_GRANULARITY_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+
+    private final int maxEntries;
+    private final ConcurrentMap<Key, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Object evictionLock = new Object();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidated = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    private HttpResponseCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 创建响应缓存
+     *
+     * @param maxEntries 最多缓存的条目数
+     * @return com.soon.utils.http.HttpResponseCache 响应缓存
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static HttpResponseCache create(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "maxEntries"));
+        }
+        return new HttpResponseCache(maxEntries);
+    }
+
+    /**
+     * 从缓存获取结果，未命中或已过期时发起请求
+     *
+     * @param restTemplate 发起请求的RestTemplate
+     * @param uri 地址
+     * @param responseType 返回的类别
+     * @return T 响应结果
+     */
+    <T> T get(RestTemplate restTemplate, URI uri, Class<T> responseType) {
+        Key key = new Key(uri.toString(), responseType);
+        CacheEntry entry = lookup(key);
+        if (entry != null && entry.isFresh()) {
+            hits.increment();
+            return responseType.cast(entry.value);
+        }
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.increment();
+            return responseType.cast(await(existing));
+        }
+        try {
+            entry = lookup(key);
+            Object value;
+            if (entry != null && entry.isFresh()) {
+                hits.increment();
+                value = entry.value;
+            } else {
+                misses.increment();
+                value = load(restTemplate, uri, responseType, key, entry);
+            }
+            created.complete(value);
+            return responseType.cast(value);
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private Object load(RestTemplate restTemplate, URI uri, Class<?> responseType, Key key, CacheEntry stale) {
+        HttpHeaders requestHeaders = new HttpHeaders();
+        if (stale != null && stale.etag != null) {
+            requestHeaders.setIfNoneMatch(stale.etag);
+        }
+        ResponseEntity<?> response = restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(requestHeaders),
+                responseType);
+        HttpHeaders headers = response.getHeaders();
+        if (stale != null && HttpStatus.NOT_MODIFIED.equals(response.getStatusCode())) {
+            revalidated.increment();
+            String etag = headers.getETag();
+            store(key, stale.value, etag != null ? etag : stale.etag, headers);
+            return stale.value;
+        }
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            // 与RestTemplate.getForObject一致，3xx等状态返回响应体，不缓存
+            return response.getBody();
+        }
+        store(key, response.getBody(), headers.getETag(), headers);
+        return response.getBody();
+    }
+
+    private void store(Key key, Object value, String etag, HttpHeaders headers) {
+        long maxAge = -1L;
+        for (String cacheControl : headers.getOrEmpty(HttpHeaders.CACHE_CONTROL)) {
+            for (String directive : cacheControl.split(",")) {
+                String name = directive.trim().toLowerCase(Locale.ROOT);
+                if ("no-store".equals(name)) {
+                    remove(key);
+                    return;
+                }
+                if ("no-cache".equals(name)) {
+                    maxAge = 0L;
+                } else if (name.startsWith("max-age=") && maxAge != 0L) {
+                    try {
+                        maxAge = Long.parseLong(name.substring("max-age=".length()).replace("\"", ""));
+                    } catch (NumberFormatException e) {
+                        maxAge = 0L;
+                    }
+                }
+            }
+        }
+        if (maxAge <= 0L && etag == null) {
+            remove(key);
+            return;
+        }
+        long now = System.nanoTime();
+        entries.put(key, new CacheEntry(value, etag, now + TimeUnit.SECONDS.toNanos(Math.max(0L, maxAge)), now));
+        if (entries.size() > maxEntries) {
+            evict();
+        }
+    }
+
+    private CacheEntry lookup(Key key) {
+        CacheEntry entry = entries.get(key);
+        if (entry != null) {
+            long now = System.nanoTime();
+            if (now - entry.lastAccess > ACCESS_GRANULARITY_NANOS) {
+                entry.lastAccess = now;
+            }
+        }
+        return entry;
+    }
+
+    private void remove(Key key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 淘汰最久未访问的条目，除超出的部分外再多淘汰容量的1/16，摊薄每次排序的开销
+     */
+    private void evict() {
+        synchronized (evictionLock) {
+            int excess = entries.size() - maxEntries;
+            if (excess <= 0) {
+                return;
+            }
+            // 排序期间访问时间仍在变化，先取快照
+            List<Candidate> candidates = new ArrayList<>(entries.size());
+            for (Map.Entry<Key, CacheEntry> entry : entries.entrySet()) {
+                candidates.add(new Candidate(entry.getKey(), entry.getValue()));
+            }
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.lastAccess));
+            int count = Math.min(candidates.size(), excess + (maxEntries >> 4));
+            for (int i = 0; i < count; i++) {
+                Candidate candidate = candidates.get(i);
+                entries.remove(candidate.key, candidate.entry);
+            }
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new HttpException("合并的请求失败", cause);
+        }
+    }
+
+    /**
+     * 清空缓存
+     *
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 获取缓存的条目数，包括已过期但保留了ETag、可以重新验证的条目；并发写入时可能短暂超过容量
+     *
+     * @return int 条目数
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 获取命中次数（缓存未过期，未发起请求）
+     *
+     * @return long 次数
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 获取未命中次数（发起了请求，包括过期后的重新验证）
+     *
+     * @return long 次数
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 获取重新验证后服务端返回304的次数
+     *
+     * @return long 次数
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long getRevalidatedCount() {
+        return revalidated.sum();
+    }
+
+    /**
+     * 获取合并到进行中的相同请求的次数
+     *
+     * @return long 次数
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * 获取命中率，合并的请求计为命中
+     *
+     * @return double 命中率
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public double getHitRate() {
+        long hit = hits.sum() + coalesced.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0D : (double) hit / total;
+    }
+
+    private static final class Key {
+        private final String uri;
+        private final Class<?> type;
+
+        private Key(String uri, Class<?> type) {
+            this.uri = uri;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return uri.equals(key.uri) && type.equals(key.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * uri.hashCode() + type.hashCode();
+        }
+    }
+
+    private static final class Candidate {
+        private final Key key;
+        private final CacheEntry entry;
+        private final long lastAccess;
+
+        private Candidate(Key key, CacheEntry entry) {
+            this.key = key;
+            this.entry = entry;
+            this.lastAccess = entry.lastAccess;
+        }
+    }
+
+    private static final class CacheEntry {
+        private final Object value;
+        private final String etag;
+        private final long expiresAt;
+        private volatile long lastAccess;
+
+        private CacheEntry(Object value, String etag, long expiresAt, long lastAccess) {
+            this.value = value;
+            this.etag = etag;
+            this.expiresAt = expiresAt;
+            this.lastAccess = lastAccess;
+        }
+
+        private boolean isFresh() {
+            return System.nanoTime() - expiresAt < 0;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.soon.utils.http;
 
 import com.alibaba.fastjson.JSON;
+import com.soon.utils.DateTimeUtils;
+import com.soon.utils.ThreadPools;
 import com.soon.utils.consts.Logs;
 import com.soon.utils.consts.Tips;
 import org.apache.commons.lang3.StringUtils;
@@ -22,6 +24,14 @@ import java.net.InetAddress;
 import java.net.URI;
 import java.net.UnknownHostException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Created on 2021/5/12.
@@ -31,6 +41,32 @@ import java.util.*;
 public class RequestUtils {
     private static final Logger log = LoggerFactory.getLogger(RequestUtils.class);
 
+    /**
+     * 按host的重试和熔断策略，重建共享的客户端时保留熔断状态
+     */
+    private static final ResilienceInterceptor RESILIENCE = new ResilienceInterceptor();
+
+    /**
+     * JDK控制每个host空闲keep-alive连接数的系统属性；未设置时由RequestUtils按每个host的并发上限设置
+     */
+    private static final String KEEP_ALIVE_PROPERTY = "http.maxConnections";
+    private static final boolean KEEP_ALIVE_MANAGED = System.getProperty(KEEP_ALIVE_PROPERTY) == null;
+
+    /**
+     * 所有请求方法共用的RestTemplate，复用消息转换器和连接
+     */
+    private static volatile RestTemplate sharedRestTemplate = createRestTemplate(new HttpClientOptions());
+
+    /**
+     * getForObject使用的响应缓存，为null时不缓存
+     */
+    private static volatile HttpResponseCache responseCache;
+
+    /**
+     * 异步请求默认使用的线程池，支持虚拟线程时使用虚拟线程
+     */
+    private static final ExecutorService ASYNC_EXECUTOR = ThreadPools.newIoExecutor("request-utils-io");
+
     private RequestUtils() {}
 
     /**
@@ -76,7 +112,108 @@ public class RequestUtils {
     }
 
     /**
-     * 获取RestTemplate实例
+     * 使用新的配置重建共享的客户端，进行中的请求不受影响
+     *
+     * @param options 配置
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static void configure(HttpClientOptions options) {
+        Objects.requireNonNull(options, String.format(Tips.PARAMS_CANNOT_BE_NULL, "options"));
+        sharedRestTemplate = createRestTemplate(options);
+    }
+
+    /**
+     * 获取RequestUtils共享的RestTemplate实例，不要修改其配置
+     *
+     * @return org.springframework.web.client.RestTemplate 实例
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static RestTemplate getSharedRestTemplate() {
+        return sharedRestTemplate;
+    }
+
+    /**
+     * 设置getForObject使用的响应缓存，默认不缓存
+     *
+     * @param cache 响应缓存，为null时关闭缓存
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static void setResponseCache(@Nullable HttpResponseCache cache) {
+        responseCache = cache;
+    }
+
+    @Nullable
+    public static HttpResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    private static RestTemplate createRestTemplate(HttpClientOptions options) {
+        if (KEEP_ALIVE_MANAGED) {
+            // 否则JDK每个host只保留5个空闲连接，并发超过5时多出的连接用完即关闭，下一次请求重新建立连接
+            System.setProperty(KEEP_ALIVE_PROPERTY, Integer.toString(options.getMaxConnectionsPerHost()));
+        }
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(options.getConnectTimeout());
+        factory.setReadTimeout(options.getReadTimeout());
+        RestTemplate restTemplate = new RestTemplate(factory);
+        restTemplate.getInterceptors().add(
+                new HostConcurrencyLimiter(options.getMaxConnectionsPerHost(), options.getAcquireTimeout()));
+        restTemplate.getInterceptors().add(RESILIENCE);
+        return restTemplate;
+    }
+
+    /**
+     * 设置所有host默认的重试和熔断策略，未设置时不重试、不熔断
+     *
+     * @param policy 策略
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static void setDefaultHostPolicy(HostPolicy policy) {
+        Objects.requireNonNull(policy, String.format(Tips.PARAMS_CANNOT_BE_NULL, "policy"));
+        RESILIENCE.setDefaultPolicy(policy);
+    }
+
+    /**
+     * 设置某个host的重试和熔断策略，该host的熔断状态重新计算
+     *
+     * @param host 主机名，例：price.example.com
+     * @param policy 策略，为null时恢复为默认策略
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static void setHostPolicy(String host, @Nullable HostPolicy policy) {
+        if (StringUtils.isBlank(host)) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "host"));
+        }
+        RESILIENCE.setPolicy(host, policy);
+    }
+
+    /**
+     * host是否处于熔断状态（包括正在放行探测请求）
+     *
+     * @param host 主机名
+     * @return boolean 是否熔断
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static boolean isCircuitOpen(String host) {
+        return RESILIENCE.isCircuitOpen(host);
+    }
+
+    /**
+     * 请求失败的日志只记录异常信息，开启debug时才记录堆栈，避免故障期间日志量放大
+     */
+    private static String describe(RuntimeException e) {
+        return log.isDebugEnabled() ? ExceptionUtils.getStackTrace(e) : e.toString();
+    }
+
+    /**
+     * 获取新的RestTemplate实例
+     * 每次都创建新的实例及消息转换器，且没有并发限制、重试和熔断，一般应使用{@link #getSharedRestTemplate()}
      *
      * @return org.springframework.web.client.RestTemplate 实例
      * @author HuYiGong
@@ -88,6 +225,7 @@ public class RequestUtils {
 
     /**
      * 根据超时时间，获取RestTemplate实例
+     * 每次都创建新的实例，超时时间可以通过{@link #configure(HttpClientOptions)}统一配置后使用{@link #getSharedRestTemplate()}
      *
      * @param timeout 超时时间
      * @return org.springframework.web.client.RestTemplate 实例
@@ -132,13 +270,13 @@ public class RequestUtils {
         if (Objects.isNull(responseType)) {
             throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "responseType"));
         }
-        long start = System.currentTimeMillis();
+        long start = DateTimeUtils.currentTimeMillis();
         try {
-            return getRestTemplate().postForObject(url, bodyParam, responseType);
+            return sharedRestTemplate.postForObject(url, bodyParam, responseType);
         } catch (RuntimeException e) {
-            log.error(Logs.HTTP_ERROR_LOG, url, JSON.toJSONString(bodyParam), ExceptionUtils.getStackTrace(e));
+            log.error(Logs.HTTP_ERROR_LOG, url, JSON.toJSONString(bodyParam), describe(e));
         } finally {
-            log.info(Logs.HTTP_INFO_LOG, url, System.currentTimeMillis() - start);
+            log.info(Logs.HTTP_INFO_LOG, url, DateTimeUtils.currentTimeMillis() - start);
         }
         return null;
     }
@@ -166,19 +304,19 @@ public class RequestUtils {
         if (Objects.isNull(uriVariables)) {
             throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "uriVariables"));
         }
-        long start = System.currentTimeMillis();
+        long start = DateTimeUtils.currentTimeMillis();
         try {
-            return getRestTemplate().postForObject(url, bodyParam, responseType, uriVariables);
+            return sharedRestTemplate.postForObject(url, bodyParam, responseType, uriVariables);
         } catch (RuntimeException e) {
-            log.error(Logs.HTTP_ERROR_LOG, getUri(url, uriVariables), JSON.toJSONString(bodyParam), ExceptionUtils.getStackTrace(e));
+            log.error(Logs.HTTP_ERROR_LOG, getUri(url, uriVariables), JSON.toJSONString(bodyParam), describe(e));
         } finally {
-            log.info(Logs.HTTP_INFO_LOG, url, System.currentTimeMillis() - start);
+            log.info(Logs.HTTP_INFO_LOG, url, DateTimeUtils.currentTimeMillis() - start);
         }
         return null;
     }
 
     /**
-     * 发起get请求
+     * 发起get请求，设置了响应缓存时优先从缓存获取
      *
      * @param url 接口地址
      * @param responseType 返回的类别
@@ -192,19 +330,30 @@ public class RequestUtils {
         if (StringUtils.isBlank(url)) {
             throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "url"));
         }
-        long start = System.currentTimeMillis();
+        long start = DateTimeUtils.currentTimeMillis();
         try {
-            return getRestTemplate().getForObject(url, responseType);
+            return fetch(url, responseType);
         } catch (RuntimeException e) {
-            log.error(Logs.HTTP_ERROR_LOG, url, null, ExceptionUtils.getStackTrace(e));
+            log.error(Logs.HTTP_ERROR_LOG, url, null, describe(e));
         } finally {
-            log.info(Logs.HTTP_INFO_LOG, url, System.currentTimeMillis() - start);
+            log.info(Logs.HTTP_INFO_LOG, url, DateTimeUtils.currentTimeMillis() - start);
         }
         return null;
     }
 
     /**
-     * 发起get请求
+     * 发起get请求，设置了响应缓存时优先从缓存获取，出错时抛出异常
+     */
+    private static <T> T fetch(String url, Class<T> responseType) {
+        HttpResponseCache cache = responseCache;
+        if (cache != null) {
+            return cache.get(sharedRestTemplate, sharedRestTemplate.getUriTemplateHandler().expand(url), responseType);
+        }
+        return sharedRestTemplate.getForObject(url, responseType);
+    }
+
+    /**
+     * 发起get请求，设置了响应缓存时优先从缓存获取
      *
      * @param url 接口地址
      * @param responseType 返回的类别
@@ -221,13 +370,17 @@ public class RequestUtils {
         if (Objects.isNull(uriVariables)) {
             throw new IllegalArgumentException(String.format(Tips.PARAMS_CANNOT_BE_NULL, "uriVariables"));
         }
-        long start = System.currentTimeMillis();
+        long start = DateTimeUtils.currentTimeMillis();
         try {
-            return getRestTemplate().getForObject(url, responseType, uriVariables);
+            HttpResponseCache cache = responseCache;
+            if (cache != null) {
+                return cache.get(sharedRestTemplate, getUri(url, uriVariables), responseType);
+            }
+            return sharedRestTemplate.getForObject(url, responseType, uriVariables);
         } catch (RuntimeException e) {
-            log.error(Logs.HTTP_ERROR_LOG, getUri(url, uriVariables), null, ExceptionUtils.getStackTrace(e));
+            log.error(Logs.HTTP_ERROR_LOG, getUri(url, uriVariables), null, describe(e));
         } finally {
-            log.info(Logs.HTTP_INFO_LOG, url, System.currentTimeMillis() - start);
+            log.info(Logs.HTTP_INFO_LOG, url, DateTimeUtils.currentTimeMillis() - start);
         }
         return null;
     }
@@ -256,9 +409,9 @@ public class RequestUtils {
         if (Objects.isNull(responseType)) {
             throw new IllegalArgumentException(String.format(Tips.PARAMS_CANNOT_BE_NULL, "responseType"));
         }
-        long start = System.currentTimeMillis();
+        long start = DateTimeUtils.currentTimeMillis();
         try {
-            ResponseEntity<T> entity = getRestTemplate().exchange(url, method, requestEntity, responseType, uriVariables);
+            ResponseEntity<T> entity = sharedRestTemplate.exchange(url, method, requestEntity, responseType, uriVariables);
             if (HttpStatus.OK.equals(entity.getStatusCode())) {
                 return entity.getBody();
             } else {
@@ -267,9 +420,9 @@ public class RequestUtils {
                 }
             }
         } catch (RuntimeException e) {
-            log.error(Logs.HTTP_ERROR_LOG, url, JSON.toJSONString(requestEntity), ExceptionUtils.getStackTrace(e));
+            log.error(Logs.HTTP_ERROR_LOG, url, JSON.toJSONString(requestEntity), describe(e));
         } finally {
-            log.info(Logs.HTTP_INFO_LOG, url, System.currentTimeMillis() - start);
+            log.info(Logs.HTTP_INFO_LOG, url, DateTimeUtils.currentTimeMillis() - start);
         }
         return null;
     }
@@ -302,17 +455,264 @@ public class RequestUtils {
         if (Objects.isNull(uriVariables)) {
             throw new IllegalArgumentException(String.format(Tips.PARAMS_CANNOT_BE_NULL, "uriVariables"));
         }
-        long start = System.currentTimeMillis();
+        long start = DateTimeUtils.currentTimeMillis();
         try {
-            return getRestTemplate().exchange(url, method, requestEntity, responseType, uriVariables);
+            return sharedRestTemplate.exchange(url, method, requestEntity, responseType, uriVariables);
         } catch (RuntimeException e) {
-            log.error(Logs.HTTP_ERROR_LOG, getUri(url, uriVariables), JSON.toJSONString(requestEntity), ExceptionUtils.getStackTrace(e));
+            log.error(Logs.HTTP_ERROR_LOG, getUri(url, uriVariables), JSON.toJSONString(requestEntity), describe(e));
         } finally {
-            log.info(Logs.HTTP_INFO_LOG, url, System.currentTimeMillis() - start);
+            log.info(Logs.HTTP_INFO_LOG, url, DateTimeUtils.currentTimeMillis() - start);
         }
         return null;
     }
 
+    /**
+     * 异步发起get请求，使用默认的线程池
+     *
+     * @param url 接口地址
+     * @param responseType 返回的类别
+     * @return java.util.concurrent.CompletableFuture<T> 对应的响应结果，出错时结果为null
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static <T> CompletableFuture<T> getForObjectAsync(String url, Class<T> responseType) {
+        return getForObjectAsync(url, responseType, ASYNC_EXECUTOR);
+    }
+
+    /**
+     * 异步发起get请求，日志和出错时返回null的处理与{@link #getForObject(String, Class)}一致
+     *
+     * @param url 接口地址
+     * @param responseType 返回的类别
+     * @param executor 执行请求的线程池
+     * @return java.util.concurrent.CompletableFuture<T> 对应的响应结果，出错时结果为null
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static <T> CompletableFuture<T> getForObjectAsync(String url, Class<T> responseType, Executor executor) {
+        if (StringUtils.isBlank(url)) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "url"));
+        }
+        Objects.requireNonNull(executor, String.format(Tips.PARAMS_CANNOT_BE_NULL, "executor"));
+        return CompletableFuture.supplyAsync(() -> getForObject(url, responseType), executor);
+    }
+
+    /**
+     * 异步发起post请求，使用默认的线程池
+     *
+     * @param url 接口地址
+     * @param bodyParam body内的参数
+     * @param responseType 返回的类别
+     * @return java.util.concurrent.CompletableFuture<T> 对应的响应结果，出错时结果为null
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static <T> CompletableFuture<T> postForObjectAsync(String url, @Nullable Object bodyParam,
+                                                              Class<T> responseType) {
+        return postForObjectAsync(url, bodyParam, responseType, ASYNC_EXECUTOR);
+    }
+
+    /**
+     * 异步发起post请求，日志和出错时返回null的处理与{@link #postForObject(String, Object, Class)}一致
+     *
+     * @param url 接口地址
+     * @param bodyParam body内的参数
+     * @param responseType 返回的类别
+     * @param executor 执行请求的线程池
+     * @return java.util.concurrent.CompletableFuture<T> 对应的响应结果，出错时结果为null
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static <T> CompletableFuture<T> postForObjectAsync(String url, @Nullable Object bodyParam,
+                                                              Class<T> responseType, Executor executor) {
+        if (StringUtils.isBlank(url)) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "url"));
+        }
+        if (Objects.isNull(responseType)) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "responseType"));
+        }
+        Objects.requireNonNull(executor, String.format(Tips.PARAMS_CANNOT_BE_NULL, "executor"));
+        return CompletableFuture.supplyAsync(() -> postForObject(url, bodyParam, responseType), executor);
+    }
+
+    /**
+     * 异步发起请求，使用默认的线程池
+     *
+     * @param url 接口地址
+     * @param method 请求方法
+     * @param requestEntity 请求实体
+     * @param responseType 响应类型
+     * @param uriVariables url参数
+     * @return java.util.concurrent.CompletableFuture<T> 对应的响应结果，出错或状态码不是200时结果为null
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static <T> CompletableFuture<T> exchangeAsync(String url, HttpMethod method,
+                                                         @Nullable HttpEntity<?> requestEntity,
+                                                         ParameterizedTypeReference<T> responseType,
+                                                         Object... uriVariables) {
+        return exchangeAsync(ASYNC_EXECUTOR, url, method, requestEntity, responseType, uriVariables);
+    }
+
+    /**
+     * 异步发起请求，日志和出错时返回null的处理与{@link #exchange}一致
+     *
+     * @param executor 执行请求的线程池
+     * @param url 接口地址
+     * @param method 请求方法
+     * @param requestEntity 请求实体
+     * @param responseType 响应类型
+     * @param uriVariables url参数
+     * @return java.util.concurrent.CompletableFuture<T> 对应的响应结果，出错或状态码不是200时结果为null
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static <T> CompletableFuture<T> exchangeAsync(Executor executor, String url, HttpMethod method,
+                                                         @Nullable HttpEntity<?> requestEntity,
+                                                         ParameterizedTypeReference<T> responseType,
+                                                         Object... uriVariables) {
+        Objects.requireNonNull(executor, String.format(Tips.PARAMS_CANNOT_BE_NULL, "executor"));
+        if (StringUtils.isBlank(url)) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "url"));
+        }
+        if (Objects.isNull(method)) {
+            throw new IllegalArgumentException(String.format(Tips.PARAMS_CANNOT_BE_NULL, "method"));
+        }
+        if (Objects.isNull(responseType)) {
+            throw new IllegalArgumentException(String.format(Tips.PARAMS_CANNOT_BE_NULL, "responseType"));
+        }
+        return CompletableFuture.supplyAsync(
+                () -> exchange(url, method, requestEntity, responseType, uriVariables), executor);
+    }
+
+    /**
+     * 批量发起get请求，合并重复的url，使用默认的线程池
+     *
+     * @param urls 接口地址
+     * @param responseType 返回的类别
+     * @param maxInFlight 同时进行的请求数上限
+     * @param timeoutMillis 整批请求的截止时间（毫秒），小于等于0时不限制
+     * @return java.util.List<com.soon.utils.http.BatchResult<T>> 与urls顺序一致的结果
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static <T> List<BatchResult<T>> getForObjectBatch(List<String> urls, Class<T> responseType,
+                                                             int maxInFlight, long timeoutMillis) {
+        return getForObjectBatch(urls, responseType, maxInFlight, timeoutMillis, true, ASYNC_EXECUTOR);
+    }
+
+    /**
+     * 批量发起get请求，阻塞直到全部完成或到达截止时间，设置了响应缓存时与getForObject一样优先从缓存获取
+     * 每个请求的成功或失败单独记录在结果中；到达截止时间时未完成和未开始的请求以TimeoutException记录，
+     * 未开始的请求不再发出；已发出的请求无法中断，最多maxInFlight个，在读取超时（{@link HttpClientOptions#getReadTimeout()}）内结束，
+     * 其结果被丢弃（写入响应缓存的除外）
+     * 例如：
+     * List<BatchResult<Price>> prices = RequestUtils.getForObjectBatch(urls, Price.class, 16, 2000L, true, executor);
+     *
+     * @param urls 接口地址
+     * @param responseType 返回的类别
+     * @param maxInFlight 同时进行的请求数上限
+     * @param timeoutMillis 整批请求的截止时间（毫秒），小于等于0时不限制
+     * @param coalesce 是否合并重复的url，合并后相同url只请求一次，共用同一个结果
+     * @param executor 执行请求的线程池
+     * @return java.util.List<com.soon.utils.http.BatchResult<T>> 与urls顺序一致的结果
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static <T> List<BatchResult<T>> getForObjectBatch(List<String> urls, Class<T> responseType,
+                                                             int maxInFlight, long timeoutMillis, boolean coalesce,
+                                                             Executor executor) {
+        Objects.requireNonNull(urls, String.format(Tips.PARAMS_CANNOT_BE_NULL, "urls"));
+        Objects.requireNonNull(responseType, String.format(Tips.PARAMS_CANNOT_BE_NULL, "responseType"));
+        Objects.requireNonNull(executor, String.format(Tips.PARAMS_CANNOT_BE_NULL, "executor"));
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "maxInFlight"));
+        }
+        int size = urls.size();
+        int[] slots = new int[size];
+        List<String> distinct = new ArrayList<>(size);
+        Map<String, Integer> index = coalesce ? new HashMap<>(size * 2) : null;
+        for (int i = 0; i < size; i++) {
+            String url = urls.get(i);
+            if (StringUtils.isBlank(url)) {
+                throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "urls"));
+            }
+            Integer slot = index == null ? null : index.putIfAbsent(url, distinct.size());
+            if (slot == null) {
+                slot = distinct.size();
+                distinct.add(url);
+            }
+            slots[i] = slot;
+        }
+
+        int count = distinct.size();
+        long deadline = timeoutMillis > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis) : 0L;
+        List<CompletableFuture<BatchResult<T>>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            futures.add(new CompletableFuture<>());
+        }
+        AtomicInteger next = new AtomicInteger();
+        AtomicBoolean abandoned = new AtomicBoolean();
+        Runnable worker = () -> {
+            int i;
+            while (!abandoned.get() && (i = next.getAndIncrement()) < count) {
+                String url = distinct.get(i);
+                if (timeoutMillis > 0 && System.nanoTime() - deadline >= 0) {
+                    futures.get(i).complete(new BatchResult<>(url, null, new TimeoutException("批量请求已超过截止时间"), 0L));
+                } else {
+                    futures.get(i).complete(fetchForBatch(url, responseType));
+                }
+            }
+        };
+        for (int i = Math.min(maxInFlight, count); i > 0; i--) {
+            executor.execute(worker);
+        }
+
+        Throwable unfinished = null;
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+        try {
+            if (timeoutMillis > 0) {
+                all.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } else {
+                all.get();
+            }
+        } catch (TimeoutException e) {
+            unfinished = new TimeoutException("批量请求已超过截止时间");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unfinished = e;
+        } catch (ExecutionException e) {
+            unfinished = e.getCause();
+        }
+        if (unfinished != null) {
+            // 空闲的工作线程不再取新的请求
+            abandoned.set(true);
+        }
+
+        List<BatchResult<T>> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            CompletableFuture<BatchResult<T>> future = futures.get(slots[i]);
+            future.complete(new BatchResult<>(distinct.get(slots[i]), null, unfinished, 0L));
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    private static <T> BatchResult<T> fetchForBatch(String url, Class<T> responseType) {
+        long start = DateTimeUtils.currentTimeMillis();
+        T value = null;
+        Throwable error = null;
+        try {
+            value = fetch(url, responseType);
+        } catch (RuntimeException e) {
+            error = e;
+            log.error(Logs.HTTP_ERROR_LOG, url, null, describe(e));
+        }
+        long elapsed = DateTimeUtils.currentTimeMillis() - start;
+        log.info(Logs.HTTP_INFO_LOG, url, elapsed);
+        return new BatchResult<>(url, value, error, elapsed);
+    }
+
     /**
      * 获取uri
      * 例如：
@@ -333,7 +733,7 @@ public class RequestUtils {
         if (Objects.isNull(uriVariables)) {
             throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "uriVariables"));
         }
-        return getRestTemplate().getUriTemplateHandler().expand(url, uriVariables);
+        return sharedRestTemplate.getUriTemplateHandler().expand(url, uriVariables);
     }
 
     /**
@@ -356,7 +756,7 @@ public class RequestUtils {
         if (Objects.isNull(uriVariables)) {
             throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "uriVariables"));
         }
-        return getRestTemplate().getUriTemplateHandler().expand(url, uriVariables);
+        return sharedRestTemplate.getUriTemplateHandler().expand(url, uriVariables);
     }
 
     /**
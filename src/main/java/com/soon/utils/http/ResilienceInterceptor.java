@@ -0,0 +1,159 @@
+package com.soon.utils.http;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 按host执行重试和熔断策略{@link HostPolicy}
+ * 必须是RestTemplate的最后一个拦截器，重试时直接重新发出请求，不再经过其他拦截器
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class ResilienceInterceptor implements ClientHttpRequestInterceptor {
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = EnumSet.of(HttpMethod.GET, HttpMethod.HEAD,
+            HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE, HttpMethod.TRACE);
+
+    private volatile HostPolicy defaultPolicy = new HostPolicy();
+    private final ConcurrentMap<String, HostPolicy> policies = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String host = String.valueOf(request.getURI().getHost());
+        HostPolicy policy = getPolicy(host);
+        if (!policy.isCircuitBreakerEnabled()) {
+            return execute(request, body, execution, policy, null);
+        }
+        CircuitBreaker breaker = breakers.computeIfAbsent(host, h -> new CircuitBreaker(policy));
+        CircuitBreaker.Permit permit = breaker.tryAcquire();
+        if (permit == CircuitBreaker.Permit.REJECTED) {
+            throw new HttpException("熔断中，请求直接失败：" + host);
+        }
+        // 一次调用（包括其中的重试）只向熔断器记录一次最终结果
+        boolean success = false;
+        try {
+            ClientHttpResponse response = execute(request, body, execution, policy, breaker);
+            success = statusOf(response) < 500;
+            return response;
+        } finally {
+            if (success) {
+                breaker.onSuccess(permit);
+            } else {
+                breaker.onFailure(permit);
+            }
+        }
+    }
+
+    private static ClientHttpResponse execute(HttpRequest request, byte[] body, ClientHttpRequestExecution execution,
+                                              HostPolicy policy, CircuitBreaker breaker) throws IOException {
+        int maxAttempts = IDEMPOTENT_METHODS.contains(request.getMethod()) ? policy.getMaxRetries() + 1 : 1;
+        for (int attempt = 1; ; attempt++) {
+            ClientHttpResponse response;
+            try {
+                response = execution.execute(request, body);
+            } catch (IOException e) {
+                if (attempt >= maxAttempts || !isRetryable(e) || isOpen(breaker)) {
+                    throw e;
+                }
+                backoff(policy, attempt);
+                continue;
+            }
+            int status = statusOf(response);
+            if (attempt < maxAttempts && (status == 502 || status == 503 || status == 504) && !isOpen(breaker)) {
+                response.close();
+                backoff(policy, attempt);
+                continue;
+            }
+            return response;
+        }
+    }
+
+    void setDefaultPolicy(HostPolicy policy) {
+        defaultPolicy = policy;
+        breakers.clear();
+    }
+
+    void setPolicy(String host, HostPolicy policy) {
+        if (policy == null) {
+            policies.remove(host);
+        } else {
+            policies.put(host, policy);
+        }
+        breakers.remove(host);
+    }
+
+    boolean isCircuitOpen(String host) {
+        CircuitBreaker breaker = breakers.get(host);
+        return breaker != null && breaker.isOpen();
+    }
+
+    private HostPolicy getPolicy(String host) {
+        HostPolicy policy = policies.get(host);
+        return policy != null ? policy : defaultPolicy;
+    }
+
+    /**
+     * 熔断后（包括探测请求所处的半开状态）不再重试
+     */
+    private static boolean isOpen(CircuitBreaker breaker) {
+        return breaker != null && breaker.isOpen();
+    }
+
+    private static int statusOf(ClientHttpResponse response) throws IOException {
+        try {
+            return response.getRawStatusCode();
+        } catch (IOException | RuntimeException e) {
+            response.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 只重试连接阶段的异常（连接被拒绝、无路由、域名解析失败、连接超时），此时请求还没有发出；
+     * 连接建立后的异常（连接被重置、读取超时、响应不完整等）服务端可能已经处理了请求，不重试
+     */
+    private static boolean isRetryable(IOException e) {
+        if (e instanceof ConnectException || e instanceof NoRouteToHostException
+                || e instanceof UnknownHostException) {
+            return true;
+        }
+        if (e instanceof SocketTimeoutException) {
+            // HttpURLConnection的连接超时与读取超时都是SocketTimeoutException，只能从消息区分：
+            // 连接超时为"connect timed out"（JDK 13起为"Connect timed out"），读取超时为"Read timed out"
+            String message = e.getMessage();
+            return message != null && message.toLowerCase(Locale.ROOT).contains("connect");
+        }
+        return false;
+    }
+
+    private static void backoff(HostPolicy policy, int attempt) throws InterruptedIOException {
+        long ceiling = Math.min(policy.getMaxBackoffMillis(), policy.getBackoffMillis() << Math.min(attempt - 1, 20));
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("重试等待时被中断");
+        }
+    }
+}
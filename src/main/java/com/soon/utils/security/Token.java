@@ -6,6 +6,7 @@ import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.soon.utils.DateTimeUtils;
 import com.soon.utils.consts.Tips;
 import org.apache.commons.lang3.StringUtils;
 
@@ -61,11 +62,12 @@ public class Token {
      * @since 2021/6/3 10:36
      */
     public String create(Map<String, Object> claim) {
-        Date date = new Date(System.currentTimeMillis() + expireTime);
+        long now = DateTimeUtils.currentTimeMillis();
+        Date date = new Date(now + expireTime);
         Algorithm algorithm = Algorithm.HMAC256(secretKey);
         return JWT.create()
                 .withPayload(claim)
-                .withIssuedAt(new Date())
+                .withIssuedAt(new Date(now))
                 .withExpiresAt(date)
                 .sign(algorithm);
     }
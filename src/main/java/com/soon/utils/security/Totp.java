@@ -1,11 +1,12 @@
 package com.soon.utils.security;
 
+import com.soon.utils.NumberUtils;
+
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
-import java.text.NumberFormat;
 
 /**
  * TOTP: Time-Based One-Time Password Algorithm
@@ -178,12 +179,8 @@ public class Totp {
         int offset = hmacSha1Res[hmacSha1Res.length - 1] & 0xf;
         long truncation = (hmacSha1Res[offset] & 0x7f) << 24 | (hmacSha1Res[offset + 1] & 0xff) << 16
                 | (hmacSha1Res[offset + 2] & 0xff) << 8 | hmacSha1Res[offset + 3] & 0xff;
-        long mold = (long) (truncation % Math.pow(10, digit));
-        NumberFormat format = NumberFormat.getInstance();
-        format.setGroupingUsed(false);
-        format.setMinimumIntegerDigits(digit);
-        format.setMaximumIntegerDigits(digit);
-        return format.format(mold);
+        // 只保留低digit位，等价于对10^digit取模
+        return NumberUtils.fillZeroTruncated(truncation, digit);
     }
 
     /**
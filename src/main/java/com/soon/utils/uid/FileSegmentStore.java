@@ -0,0 +1,148 @@
+package com.soon.utils.uid;
+
+import com.soon.utils.consts.Tips;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * 基于本地文件的号段存储，适用于单机多进程
+ * 每个key对应目录下的一个号段文件，文件内容为下一个可分配的ID（十进制文本），更新时写入临时文件后原子替换
+ * 同一JVM内按文件路径互斥（与实例无关），不同进程之间通过key对应的.lock文件加锁互斥
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public class FileSegmentStore implements SegmentStore {
+    private static final Pattern KEY_PATTERN = Pattern.compile("[A-Za-z0-9_.\\-]+");
+
+    /**
+     * 同一JVM内按锁文件互斥，多个实例使用同一目录时也不会重复加文件锁
+     */
+    private static final ConcurrentMap<Path, Object> LOCKS = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final long initialValue;
+
+    private FileSegmentStore(Path directory, long initialValue) {
+        this.directory = directory;
+        this.initialValue = initialValue;
+    }
+
+    /**
+     * 创建号段存储，新的key从1开始分配
+     *
+     * @param directory 存储目录，不存在时自动创建
+     * @return com.soon.utils.uid.FileSegmentStore 号段存储
+     * @throws IOException 创建目录失败时抛出
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static FileSegmentStore create(Path directory) throws IOException {
+        return create(directory, 1L);
+    }
+
+    /**
+     * 创建号段存储
+     *
+     * @param directory 存储目录，不存在时自动创建
+     * @param initialValue 新的key的起始ID
+     * @return com.soon.utils.uid.FileSegmentStore 号段存储
+     * @throws IOException 创建目录失败时抛出
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static FileSegmentStore create(Path directory, long initialValue) throws IOException {
+        Objects.requireNonNull(directory, String.format(Tips.PARAMS_CANNOT_BE_NULL, "directory"));
+        Files.createDirectories(directory);
+        return new FileSegmentStore(directory.toAbsolutePath().normalize(), initialValue);
+    }
+
+    @Override
+    public long lease(String key, int step) throws IOException {
+        Objects.requireNonNull(key, String.format(Tips.PARAMS_CANNOT_BE_NULL, "key"));
+        if (!KEY_PATTERN.matcher(key).matches()) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "key"));
+        }
+        if (step <= 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "step"));
+        }
+        Path file = directory.resolve(key + ".segment");
+        Path lockFile = directory.resolve(key + ".lock");
+        // 文件锁由整个JVM持有，同一JVM内的多个实例对同一个文件加锁会抛出OverlappingFileLockException，需要先在JVM内互斥
+        synchronized (LOCKS.computeIfAbsent(lockFile, p -> new Object())) {
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    long start = read(file);
+                    write(file, Math.addExact(start, step));
+                    return start;
+                } finally {
+                    lock.release();
+                }
+            }
+        }
+    }
+
+    private long read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return initialValue;
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        String content = new String(bytes, StandardCharsets.US_ASCII).trim();
+        try {
+            return Long.parseLong(content);
+        } catch (NumberFormatException e) {
+            throw new IOException("号段文件内容不合法：" + file, e);
+        }
+    }
+
+    /**
+     * 先写入临时文件并刷盘，再原子替换号段文件，进程在任何时刻崩溃都不会留下空的或写了一半的号段文件
+     * 替换后再对所在目录刷盘，使替换本身在断电后也不会丢失（否则可能回到旧值而重复分配）；
+     * 不支持打开目录刷盘的平台（如Windows）只保证进程崩溃时的原子性
+     */
+    private static void write(Path file, long value) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        forceDirectory(file.getParent());
+    }
+
+    private static void forceDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException | UnsupportedOperationException e) {
+            // Windows等平台不能以读方式打开目录
+            return;
+        }
+        try (FileChannel dir = channel) {
+            dir.force(true);
+        } catch (IOException e) {
+            // 部分文件系统不支持对目录刷盘，目录项仍由文件系统按自身策略落盘
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+}
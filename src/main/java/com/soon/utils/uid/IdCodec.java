@@ -0,0 +1,367 @@
+package com.soon.utils.uid;
+
+import com.soon.utils.consts.Tips;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * ID的紧凑编码，64位ID与128位ID（UUID）均编码为定长字符串
+ * 字母表按ASCII升序排列，定长编码的字典序与数值按无符号比较的顺序一致，
+ * 因此雪花算法ID、UUIDv7等按时间递增的ID编码后仍按时间排序
+ * BASE62：0-9A-Za-z，64位11个字符，128位22个字符，区分大小写
+ * CROCKFORD32：Crockford Base32，64位13个字符，128位26个字符，解码时不区分大小写，I、L按1处理，O按0处理
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public enum IdCodec {
+    /**
+     * Base62
+     */
+    BASE62("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz", 11, 22) {
+        @Override
+        void write64(long id, char[] buf, int offset) {
+            int position = offset + length64 - 1;
+            // 先按无符号数除一次，之后的商都是非负数
+            long quotient = Long.divideUnsigned(id, 62L);
+            buf[position--] = alphabet[(int) (id - quotient * 62L)];
+            while (position >= offset) {
+                long next = quotient / 62L;
+                buf[position--] = alphabet[(int) (quotient - next * 62L)];
+                quotient = next;
+            }
+        }
+
+        @Override
+        void write128(long mostSigBits, long leastSigBits, char[] buf, int offset) {
+            // 按32位拆分，每次除以62^5，得到5位
+            long l3 = mostSigBits >>> 32;
+            long l2 = mostSigBits & 0xFFFFFFFFL;
+            long l1 = leastSigBits >>> 32;
+            long l0 = leastSigBits & 0xFFFFFFFFL;
+            int position = offset + length128;
+            for (int chunk = 0; chunk < 4; chunk++) {
+                long dividend = l3;
+                l3 = dividend / BASE62_POW5;
+                dividend = (dividend - l3 * BASE62_POW5) << 32 | l2;
+                l2 = dividend / BASE62_POW5;
+                dividend = (dividend - l2 * BASE62_POW5) << 32 | l1;
+                l1 = dividend / BASE62_POW5;
+                dividend = (dividend - l1 * BASE62_POW5) << 32 | l0;
+                l0 = dividend / BASE62_POW5;
+                long remainder = dividend - l0 * BASE62_POW5;
+                for (int i = 0; i < 5; i++) {
+                    long next = remainder / 62L;
+                    buf[--position] = alphabet[(int) (remainder - next * 62L)];
+                    remainder = next;
+                }
+            }
+            // 2^128 / 62^20 < 62^2，剩余的值只在最低32位中
+            buf[--position] = alphabet[(int) (l0 % 62L)];
+            buf[--position] = alphabet[(int) (l0 / 62L)];
+        }
+
+        @Override
+        long read64(CharSequence text, int offset) {
+            long value = 0L;
+            for (int i = 0; i < length64 - 1; i++) {
+                value = value * 62L + digit(text, offset + i);
+            }
+            // 前10位不会溢出，最后一位需要按无符号数检查
+            int last = digit(text, offset + length64 - 1);
+            if (Long.compareUnsigned(value, Long.divideUnsigned(-1L - last, 62L)) > 0) {
+                throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "text"));
+            }
+            return value * 62L + last;
+        }
+
+        @Override
+        UUID read128(CharSequence text, int offset) {
+            long l3 = 0L;
+            long l2 = 0L;
+            long l1 = 0L;
+            long l0 = 0L;
+            for (int i = 0; i < length128; i++) {
+                long carry = l0 * 62L + digit(text, offset + i);
+                l0 = carry & 0xFFFFFFFFL;
+                carry = l1 * 62L + (carry >>> 32);
+                l1 = carry & 0xFFFFFFFFL;
+                carry = l2 * 62L + (carry >>> 32);
+                l2 = carry & 0xFFFFFFFFL;
+                carry = l3 * 62L + (carry >>> 32);
+                l3 = carry & 0xFFFFFFFFL;
+                if (carry >>> 32 != 0) {
+                    throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "text"));
+                }
+            }
+            return new UUID(l3 << 32 | l2, l1 << 32 | l0);
+        }
+    },
+
+    /**
+     * Crockford Base32
+     */
+    CROCKFORD32("0123456789ABCDEFGHJKMNPQRSTVWXYZ", 13, 26) {
+        @Override
+        void write64(long id, char[] buf, int offset) {
+            for (int position = offset + length64 - 1, shift = 0; position >= offset; position--, shift += 5) {
+                buf[position] = alphabet[(int) (id >>> shift) & 0x1F];
+            }
+        }
+
+        @Override
+        void write128(long mostSigBits, long leastSigBits, char[] buf, int offset) {
+            for (int position = offset + length128 - 1, shift = 0; position >= offset; position--, shift += 5) {
+                buf[position] = alphabet[bits(mostSigBits, leastSigBits, shift)];
+            }
+        }
+
+        @Override
+        long read64(CharSequence text, int offset) {
+            // 13个字符共65位，首个字符只能使用低4位
+            int first = digit(text, offset);
+            if (first > 0xF) {
+                throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "text"));
+            }
+            long value = first;
+            for (int i = 1; i < length64; i++) {
+                value = value << 5 | digit(text, offset + i);
+            }
+            return value;
+        }
+
+        @Override
+        UUID read128(CharSequence text, int offset) {
+            // 26个字符共130位，首个字符只能使用低3位
+            int first = digit(text, offset);
+            if (first > 0x7) {
+                throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "text"));
+            }
+            long mostSigBits = 0L;
+            long leastSigBits = first;
+            for (int i = 1; i < length128; i++) {
+                mostSigBits = mostSigBits << 5 | leastSigBits >>> 59;
+                leastSigBits = leastSigBits << 5 | digit(text, offset + i);
+            }
+            return new UUID(mostSigBits, leastSigBits);
+        }
+
+        @Override
+        int digit(char c) {
+            int value = super.digit(c);
+            if (value >= 0) {
+                return value;
+            }
+            switch (c) {
+                case 'O':
+                case 'o':
+                    return 0;
+                case 'I':
+                case 'i':
+                case 'L':
+                case 'l':
+                    return 1;
+                default:
+                    return c >= 'a' && c <= 'z' ? super.digit((char) (c - 32)) : -1;
+            }
+        }
+    };
+
+    private static final long BASE62_POW5 = 62L * 62L * 62L * 62L * 62L;
+
+    /**
+     * 参数为空的提示，预先生成
+     */
+    private static final String NULL_BUF = String.format(Tips.PARAMS_CANNOT_BE_NULL, "buf");
+    private static final String NULL_UUID = String.format(Tips.PARAMS_CANNOT_BE_NULL, "uuid");
+    private static final String NULL_TEXT = String.format(Tips.PARAMS_CANNOT_BE_NULL, "text");
+
+    final char[] alphabet;
+    final int length64;
+    final int length128;
+    private final byte[] values = new byte[128];
+
+    IdCodec(String alphabet, int length64, int length128) {
+        this.alphabet = alphabet.toCharArray();
+        this.length64 = length64;
+        this.length128 = length128;
+        Arrays.fill(values, (byte) -1);
+        for (int i = 0; i < this.alphabet.length; i++) {
+            values[this.alphabet[i]] = (byte) i;
+        }
+    }
+
+    /**
+     * 编码64位ID，按无符号数处理
+     *
+     * @param id ID
+     * @return java.lang.String 定长字符串
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public String encode(long id) {
+        char[] buf = new char[length64];
+        write64(id, buf, 0);
+        return new String(buf);
+    }
+
+    /**
+     * 编码64位ID并写入char数组
+     *
+     * @param id ID
+     * @param buf 输出数组
+     * @param offset 起始位置
+     * @return int 写入的长度
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public int encode(long id, char[] buf, int offset) {
+        Objects.requireNonNull(buf, NULL_BUF);
+        checkBounds(buf.length, offset, length64);
+        write64(id, buf, offset);
+        return length64;
+    }
+
+    /**
+     * 编码UUID
+     *
+     * @param uuid UUID
+     * @return java.lang.String 定长字符串
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public String encode(UUID uuid) {
+        Objects.requireNonNull(uuid, NULL_UUID);
+        return encode(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * 编码128位ID
+     *
+     * @param mostSigBits 高64位
+     * @param leastSigBits 低64位
+     * @return java.lang.String 定长字符串
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public String encode(long mostSigBits, long leastSigBits) {
+        char[] buf = new char[length128];
+        write128(mostSigBits, leastSigBits, buf, 0);
+        return new String(buf);
+    }
+
+    /**
+     * 编码128位ID并写入char数组
+     *
+     * @param mostSigBits 高64位
+     * @param leastSigBits 低64位
+     * @param buf 输出数组
+     * @param offset 起始位置
+     * @return int 写入的长度
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public int encode(long mostSigBits, long leastSigBits, char[] buf, int offset) {
+        Objects.requireNonNull(buf, NULL_BUF);
+        checkBounds(buf.length, offset, length128);
+        write128(mostSigBits, leastSigBits, buf, offset);
+        return length128;
+    }
+
+    /**
+     * 解码64位ID
+     *
+     * @param text 定长字符串
+     * @return long ID
+     * @throws IllegalArgumentException 长度不对、包含非法字符或超出64位时抛出
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long decodeLong(CharSequence text) {
+        Objects.requireNonNull(text, NULL_TEXT);
+        if (text.length() != length64) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "text"));
+        }
+        return read64(text, 0);
+    }
+
+    /**
+     * 解码UUID
+     *
+     * @param text 定长字符串
+     * @return java.util.UUID UUID
+     * @throws IllegalArgumentException 长度不对、包含非法字符或超出128位时抛出
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public UUID decodeUuid(CharSequence text) {
+        Objects.requireNonNull(text, NULL_TEXT);
+        if (text.length() != length128) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "text"));
+        }
+        return read128(text, 0);
+    }
+
+    /**
+     * 获取64位ID编码后的长度
+     *
+     * @return int 长度
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public int getLength64() {
+        return length64;
+    }
+
+    /**
+     * 获取128位ID编码后的长度
+     *
+     * @return int 长度
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public int getLength128() {
+        return length128;
+    }
+
+    abstract void write64(long id, char[] buf, int offset);
+
+    abstract void write128(long mostSigBits, long leastSigBits, char[] buf, int offset);
+
+    abstract long read64(CharSequence text, int offset);
+
+    abstract UUID read128(CharSequence text, int offset);
+
+    int digit(char c) {
+        return c < 128 ? values[c] : -1;
+    }
+
+    final int digit(CharSequence text, int index) {
+        int value = digit(text.charAt(index));
+        if (value < 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "text"));
+        }
+        return value;
+    }
+
+    /**
+     * 取128位数中从shift位开始的5位
+     */
+    static int bits(long mostSigBits, long leastSigBits, int shift) {
+        if (shift >= 64) {
+            return (int) (mostSigBits >>> (shift - 64)) & 0x1F;
+        }
+        if (shift > 59) {
+            return (int) (leastSigBits >>> shift | mostSigBits << (64 - shift)) & 0x1F;
+        }
+        return (int) (leastSigBits >>> shift) & 0x1F;
+    }
+
+    private static void checkBounds(int capacity, int offset, int length) {
+        if (offset < 0 || capacity - offset < length) {
+            throw new IndexOutOfBoundsException(String.format(Tips.ILLEGAL_PARAMETER, "offset"));
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.soon.utils.uid;
+
+import com.soon.utils.consts.Tips;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 号段ID分配器（双缓冲）
+ * 每次从{@link SegmentStore}租用一段ID在本地分配，当前号段使用到一定比例时异步预取下一个号段，
+ * 当前号段用完时直接切换，正常情况下 nextId 不会等待存储；只有预取还未完成（存储过慢或不可用）时才会等待
+ * 同一分配器按号段顺序分配ID，整体递增；不同节点之间只保证唯一，不保证顺序
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public class SegmentIdAllocator {
+    /**
+     * 默认在当前号段使用20%后预取下一个号段
+     */
+    public static final double DEFAULT_PREFETCH_RATIO = 0.2D;
+
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "segment-id-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final SegmentStore store;
+    private final String key;
+    private final int step;
+    private final long prefetchThreshold;
+    private final Executor executor;
+    private final AtomicReference<CompletableFuture<Segment>> next = new AtomicReference<>();
+    private volatile Segment current;
+
+    private SegmentIdAllocator(SegmentStore store, String key, int step, double prefetchRatio, Executor executor) {
+        this.store = store;
+        this.key = key;
+        this.step = step;
+        this.prefetchThreshold = Math.max(0L, Math.min(step - 1L, (long) (step * prefetchRatio)));
+        this.executor = executor;
+    }
+
+    /**
+     * 创建分配器，创建时同步租用第一个号段
+     *
+     * @param store 号段存储
+     * @param key 业务标识
+     * @param step 每次租用的号段长度
+     * @return com.soon.utils.uid.SegmentIdAllocator 分配器
+     * @throws IOException 租用第一个号段失败时抛出
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static SegmentIdAllocator create(SegmentStore store, String key, int step) throws IOException {
+        return create(store, key, step, DEFAULT_PREFETCH_RATIO, PREFETCH_EXECUTOR);
+    }
+
+    /**
+     * 创建分配器，创建时同步租用第一个号段
+     *
+     * @param store 号段存储
+     * @param key 业务标识
+     * @param step 每次租用的号段长度
+     * @param prefetchRatio 当前号段使用到该比例时预取下一个号段，0-1
+     * @param executor 执行预取的线程池
+     * @return com.soon.utils.uid.SegmentIdAllocator 分配器
+     * @throws IOException 租用第一个号段失败时抛出
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static SegmentIdAllocator create(SegmentStore store, String key, int step, double prefetchRatio,
+                                            Executor executor) throws IOException {
+        Objects.requireNonNull(store, String.format(Tips.PARAMS_CANNOT_BE_NULL, "store"));
+        Objects.requireNonNull(key, String.format(Tips.PARAMS_CANNOT_BE_NULL, "key"));
+        Objects.requireNonNull(executor, String.format(Tips.PARAMS_CANNOT_BE_NULL, "executor"));
+        if (step <= 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "step"));
+        }
+        if (!(prefetchRatio >= 0 && prefetchRatio <= 1)) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "prefetchRatio"));
+        }
+        SegmentIdAllocator allocator = new SegmentIdAllocator(store, key, step, prefetchRatio, executor);
+        allocator.current = allocator.lease();
+        return allocator;
+    }
+
+    /**
+     * 分配ID
+     *
+     * @return long ID
+     * @throws UncheckedIOException 号段用完且预取失败，重新租用也失败时抛出
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long nextId() {
+        for (;;) {
+            Segment segment = current;
+            long offset = segment.cursor.getAndIncrement();
+            if (offset < step) {
+                if (offset == prefetchThreshold) {
+                    prefetch();
+                }
+                return segment.start + offset;
+            }
+            switchSegment(segment);
+        }
+    }
+
+    /**
+     * 获取当前号段剩余可分配的ID数量（不含已预取的号段）
+     *
+     * @return long 剩余数量
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long getRemaining() {
+        return Math.max(0L, step - current.cursor.get());
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getStep() {
+        return step;
+    }
+
+    private void prefetch() {
+        if (next.get() != null) {
+            return;
+        }
+        CompletableFuture<Segment> future = new CompletableFuture<>();
+        if (!next.compareAndSet(null, future)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(lease());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 线程池拒绝时放弃预取，切换号段时同步租用
+            next.compareAndSet(future, null);
+        }
+    }
+
+    private synchronized void switchSegment(Segment exhausted) {
+        if (current != exhausted) {
+            return;
+        }
+        CompletableFuture<Segment> future = next.get();
+        Segment segment = null;
+        if (future != null) {
+            try {
+                segment = future.join();
+            } catch (CompletionException e) {
+                // 预取失败，下面重新同步租用
+            }
+        }
+        if (segment == null) {
+            // 同步租用期间next保持不为空，避免迟到的预取抢先租到更小的号段，在当前号段之后才被使用
+            CompletableFuture<Segment> leasing = new CompletableFuture<>();
+            next.set(leasing);
+            try {
+                segment = lease();
+            } catch (IOException e) {
+                next.set(null);
+                throw new UncheckedIOException(e);
+            }
+        }
+        next.set(null);
+        current = segment;
+    }
+
+    private Segment lease() throws IOException {
+        return new Segment(store.lease(key, step));
+    }
+
+    private static final class Segment {
+        private final long start;
+        private final AtomicLong cursor = new AtomicLong();
+
+        private Segment(long start) {
+            this.start = start;
+        }
+    }
+}
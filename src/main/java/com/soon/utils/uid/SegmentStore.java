@@ -0,0 +1,25 @@
+package com.soon.utils.uid;
+
+import java.io.IOException;
+
+/**
+ * 号段存储，负责在多个节点之间分配互不重叠的ID区间
+ * 实现需要保证同一个key的多次租用（包括跨进程、跨节点）返回的区间不重叠，例如基于数据库的
+ * update ... set max_id = max_id + step 或者Redis的INCRBY
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public interface SegmentStore {
+    /**
+     * 租用一个号段
+     *
+     * @param key 业务标识
+     * @param step 号段长度
+     * @return long 号段的起始ID，租到的区间为 [起始ID, 起始ID + step)
+     * @throws IOException 访问存储失败时抛出
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    long lease(String key, int step) throws IOException;
+}
@@ -0,0 +1,220 @@
+package com.soon.utils.uid;
+
+import com.soon.utils.consts.Tips;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 雪花算法ID生成器，生成按时间递增的64位ID
+ * ID结构（从高到低）：1位符号位 | 时间戳（相对纪元的毫秒数） | 数据中心ID | 机器ID | 毫秒内序列号
+ * 上次的时间戳与序列号打包在一个long中，通过CAS更新，不加锁
+ * 时钟回拨时继续使用上次的时间戳分配序列号，序列号用完后等待时钟追上；此时回拨超过容忍时间则抛出异常，不会无限等待
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+public class SnowflakeIdGenerator {
+    /**
+     * 默认纪元：2020-01-01 00:00:00 UTC
+     */
+    public static final long DEFAULT_EPOCH = 1577836800000L;
+    public static final int DEFAULT_DATACENTER_BITS = 5;
+    public static final int DEFAULT_WORKER_BITS = 5;
+    public static final int DEFAULT_SEQUENCE_BITS = 12;
+    /**
+     * 默认的时钟回拨容忍时间（毫秒）
+     */
+    public static final long DEFAULT_MAX_BACKWARD_MILLIS = 10L;
+
+    private final long epoch;
+    private final int datacenterBits;
+    private final int workerBits;
+    private final int sequenceBits;
+    private final long datacenterId;
+    private final long workerId;
+    private final long maxBackwardMillis;
+    private final long sequenceMask;
+    private final long maxTimestamp;
+    private final int timestampShift;
+    private final long node;
+    /**
+     * 高位为上次使用的时间戳（相对纪元），低sequenceBits位为序列号
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    private SnowflakeIdGenerator(long epoch, int datacenterBits, int workerBits, int sequenceBits,
+                                 long datacenterId, long workerId, long maxBackwardMillis) {
+        this.epoch = epoch;
+        this.datacenterBits = datacenterBits;
+        this.workerBits = workerBits;
+        this.sequenceBits = sequenceBits;
+        this.datacenterId = datacenterId;
+        this.workerId = workerId;
+        this.maxBackwardMillis = maxBackwardMillis;
+        this.sequenceMask = ~(-1L << sequenceBits);
+        this.timestampShift = datacenterBits + workerBits + sequenceBits;
+        this.maxTimestamp = ~(-1L << (63 - timestampShift));
+        this.node = (datacenterId << (workerBits + sequenceBits)) | (workerId << sequenceBits);
+    }
+
+    /**
+     * 使用默认纪元与位数创建生成器（5位数据中心ID、5位机器ID、12位序列号，可使用约69年）
+     *
+     * @param datacenterId 数据中心ID，0-31
+     * @param workerId 机器ID，0-31
+     * @return com.soon.utils.uid.SnowflakeIdGenerator 生成器
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static SnowflakeIdGenerator create(long datacenterId, long workerId) {
+        return create(DEFAULT_EPOCH, DEFAULT_DATACENTER_BITS, DEFAULT_WORKER_BITS, DEFAULT_SEQUENCE_BITS,
+                datacenterId, workerId, DEFAULT_MAX_BACKWARD_MILLIS);
+    }
+
+    /**
+     * 创建生成器
+     * 时间戳位数为 63 - datacenterBits - workerBits - sequenceBits，至少需要31位
+     *
+     * @param epoch 纪元（毫秒时间戳），不能晚于当前时间
+     * @param datacenterBits 数据中心ID位数
+     * @param workerBits 机器ID位数
+     * @param sequenceBits 序列号位数，至少1位
+     * @param datacenterId 数据中心ID
+     * @param workerId 机器ID
+     * @param maxBackwardMillis 时钟回拨容忍时间（毫秒），回拨不超过该时间时等待，超过时抛出异常
+     * @return com.soon.utils.uid.SnowflakeIdGenerator 生成器
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public static SnowflakeIdGenerator create(long epoch, int datacenterBits, int workerBits, int sequenceBits,
+                                              long datacenterId, long workerId, long maxBackwardMillis) {
+        if (epoch < 0 || epoch > System.currentTimeMillis()) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "epoch"));
+        }
+        if (datacenterBits < 0 || workerBits < 0 || sequenceBits < 1
+                || datacenterBits + workerBits + sequenceBits > 32) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "bits"));
+        }
+        if (datacenterId < 0 || datacenterId > ~(-1L << datacenterBits)) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "datacenterId"));
+        }
+        if (workerId < 0 || workerId > ~(-1L << workerBits)) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "workerId"));
+        }
+        if (maxBackwardMillis < 0) {
+            throw new IllegalArgumentException(String.format(Tips.ILLEGAL_PARAMETER, "maxBackwardMillis"));
+        }
+        return new SnowflakeIdGenerator(epoch, datacenterBits, workerBits, sequenceBits,
+                datacenterId, workerId, maxBackwardMillis);
+    }
+
+    /**
+     * 生成ID
+     *
+     * @return long ID
+     * @throws IllegalStateException 时钟回拨超过容忍时间，或时间戳超出可表示范围时抛出
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long nextId() {
+        for (;;) {
+            long current = state.get();
+            long lastTimestamp = current >>> sequenceBits;
+            long now = System.currentTimeMillis() - epoch;
+            long next;
+            if (now > lastTimestamp) {
+                if (now > maxTimestamp) {
+                    throw new IllegalStateException("时间戳超出ID可表示的范围，请调整纪元或位数");
+                }
+                next = now << sequenceBits;
+            } else if ((current & sequenceMask) < sequenceMask) {
+                // 同一毫秒内，或时钟回拨后沿用上次的时间戳
+                next = current + 1;
+            } else {
+                awaitNextMillis(lastTimestamp, now);
+                continue;
+            }
+            if (state.compareAndSet(current, next)) {
+                return ((next >>> sequenceBits) << timestampShift) | node | (next & sequenceMask);
+            }
+        }
+    }
+
+    /**
+     * 序列号已用完，等待时钟走到lastTimestamp之后
+     */
+    private void awaitNextMillis(long lastTimestamp, long now) {
+        long behind = lastTimestamp - now;
+        if (behind > maxBackwardMillis) {
+            throw new IllegalStateException(String.format(
+                    "时钟回拨%d毫秒，超过容忍时间%d毫秒，拒绝生成ID", behind, maxBackwardMillis));
+        }
+        if (behind > 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(behind));
+        } else {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * 解析ID中的时间戳
+     *
+     * @param id ID
+     * @return long 毫秒时间戳
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long getTimestamp(long id) {
+        return (id >>> timestampShift) + epoch;
+    }
+
+    /**
+     * 解析ID中的数据中心ID
+     *
+     * @param id ID
+     * @return long 数据中心ID
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long getDatacenterId(long id) {
+        return (id >>> (workerBits + sequenceBits)) & ~(-1L << datacenterBits);
+    }
+
+    /**
+     * 解析ID中的机器ID
+     *
+     * @param id ID
+     * @return long 机器ID
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long getWorkerId(long id) {
+        return (id >>> sequenceBits) & ~(-1L << workerBits);
+    }
+
+    /**
+     * 解析ID中的序列号
+     *
+     * @param id ID
+     * @return long 序列号
+     * @author HuYiGong
+     * @since 2026/10/19
+     */
+    public long getSequence(long id) {
+        return id & sequenceMask;
+    }
+
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public long getDatacenterId() {
+        return datacenterId;
+    }
+
+    public long getWorkerId() {
+        return workerId;
+    }
+}
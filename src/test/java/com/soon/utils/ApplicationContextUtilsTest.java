@@ -0,0 +1,93 @@
+package com.soon.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 应用上下文工具类的缓存：单例缓存、非单例不缓存、刷新与关闭时失效、getBeansOfType返回副本
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class ApplicationContextUtilsTest {
+    private static GenericApplicationContext install(AtomicInteger created) {
+        return TestContexts.install(c -> {
+            // 注册为bean后可以收到上下文的刷新、关闭事件
+            c.registerBean(ApplicationContextUtils.class);
+            c.registerBean("builder", StringBuilder.class, () -> new StringBuilder("s" + created.incrementAndGet()));
+            c.registerBean("counter", AtomicInteger.class, () -> new AtomicInteger(),
+                    definition -> definition.setScope(BeanDefinition.SCOPE_PROTOTYPE));
+        });
+    }
+
+    @Test
+    void cachesSingletonsButNotPrototypes() {
+        AtomicInteger created = new AtomicInteger();
+        GenericApplicationContext context = install(created);
+        try {
+            StringBuilder builder = ApplicationContextUtils.getBean(StringBuilder.class);
+            assertSame(builder, ApplicationContextUtils.getBean(StringBuilder.class));
+            assertSame(builder, ApplicationContextUtils.getBean("builder"));
+            assertTrue(ApplicationContextUtils.isSingleton(StringBuilder.class));
+
+            AtomicInteger first = ApplicationContextUtils.getBean(AtomicInteger.class);
+            assertNotSame(first, ApplicationContextUtils.getBean(AtomicInteger.class));
+            assertNotSame(first, ApplicationContextUtils.getBean("counter"));
+            assertEquals(false, ApplicationContextUtils.isSingleton(AtomicInteger.class));
+        } finally {
+            context.close();
+        }
+    }
+
+    @Test
+    void refreshAndCloseInvalidateCache() {
+        AtomicInteger created = new AtomicInteger();
+        GenericApplicationContext first = install(created);
+        StringBuilder fromFirst = ApplicationContextUtils.getBean(StringBuilder.class);
+        assertEquals("s1", fromFirst.toString());
+        int generation = ApplicationContextUtils.getGeneration();
+
+        first.close();
+        assertTrue(ApplicationContextUtils.getGeneration() != generation);
+        // 关闭后不再返回缓存的bean
+        assertThrows(IllegalStateException.class, () -> ApplicationContextUtils.getBean(StringBuilder.class));
+
+        GenericApplicationContext second = install(created);
+        try {
+            StringBuilder fromSecond = ApplicationContextUtils.getBean(StringBuilder.class);
+            assertEquals("s2", fromSecond.toString());
+            assertSame(fromSecond, ApplicationContextUtils.getBeansOfType(StringBuilder.class).get("builder"));
+        } finally {
+            second.close();
+        }
+    }
+
+    @Test
+    void beansOfTypeReturnsCopies() {
+        GenericApplicationContext context = install(new AtomicInteger());
+        try {
+            Map<String, StringBuilder> beans = ApplicationContextUtils.getBeansOfType(StringBuilder.class);
+            beans.clear();
+            beans.put("other", new StringBuilder());
+            Map<String, StringBuilder> again = ApplicationContextUtils.getBeansOfType(StringBuilder.class);
+            assertEquals(1, again.size());
+            assertTrue(again.containsKey("builder"));
+            assertNotSame(beans, again);
+
+            Map<String, AtomicInteger> prototypes = ApplicationContextUtils.getBeansOfType(AtomicInteger.class);
+            assertNotSame(prototypes.get("counter"), ApplicationContextUtils.getBeansOfType(AtomicInteger.class).get("counter"));
+        } finally {
+            context.close();
+        }
+    }
+}
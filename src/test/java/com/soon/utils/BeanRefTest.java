@@ -0,0 +1,57 @@
+package com.soon.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * bean引用的预先解析与回收
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class BeanRefTest {
+    @Test
+    void warmUpSkipsBrokenRefs() {
+        GenericApplicationContext context = TestContexts.install(c -> {
+            c.registerBean("text", String.class, () -> "soon");
+            c.registerBean("builder", StringBuilder.class, () -> new StringBuilder());
+        });
+        try {
+            BeanRef<String> text = BeanRef.of("text", String.class);
+            // 类型不匹配抛出ClassCastException，不是BeansException
+            BeanRef<Integer> wrongType = BeanRef.of("text", Integer.class);
+            BeanRef<Runnable> missing = BeanRef.of(Runnable.class);
+            BeanRef<StringBuilder> builder = BeanRef.of(StringBuilder.class);
+
+            BeanRef.warmUpAll();
+            assertTrue(text.isResolved());
+            assertTrue(builder.isResolved());
+            assertFalse(wrongType.isResolved());
+            assertFalse(missing.isResolved());
+            assertThrows(ClassCastException.class, wrongType::get);
+            assertEquals("soon", text.get());
+        } finally {
+            context.close();
+        }
+    }
+
+    @Test
+    void collectedRefsArePrunedOnDeclaration() throws InterruptedException {
+        for (int i = 0; i < 1000; i++) {
+            BeanRef.of(String.class);
+        }
+        int declared = BeanRef.registeredCount();
+        assertTrue(declared >= 1000);
+        for (int i = 0; i < 50 && BeanRef.registeredCount() >= declared; i++) {
+            System.gc();
+            Thread.sleep(20L);
+            BeanRef.of(String.class);
+        }
+        assertTrue(BeanRef.registeredCount() < declared);
+    }
+}
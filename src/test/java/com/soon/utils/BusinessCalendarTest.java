@@ -0,0 +1,129 @@
+package com.soon.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 工作日日历：与逐天计算的结果交叉验证20000天，覆盖闰年、跨年、节假日与调休
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class BusinessCalendarTest {
+    private static final LocalDate FIRST = LocalDate.of(1990, 1, 1);
+    private static final int DAYS = 20_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void matchesDayByDayComputation() {
+        crossCheck(EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), 17L);
+        crossCheck(EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY), 29L);
+        crossCheck(EnumSet.noneOf(DayOfWeek.class), 31L);
+    }
+
+    private static void crossCheck(Set<DayOfWeek> weekend, long seed) {
+        Random random = new Random(seed);
+        Set<LocalDate> holidays = new HashSet<>();
+        Set<LocalDate> workdays = new HashSet<>();
+        for (int i = 0; i < DAYS / 20; i++) {
+            holidays.add(FIRST.plusDays(random.nextInt(DAYS)));
+            workdays.add(FIRST.plusDays(random.nextInt(DAYS)));
+        }
+        // 年初年末的节假日，验证跨年的位图边界
+        holidays.add(LocalDate.of(2000, 12, 31));
+        holidays.add(LocalDate.of(2001, 1, 1));
+        workdays.add(LocalDate.of(2004, 12, 31));
+        BusinessCalendar calendar = BusinessCalendar.create(weekend);
+        calendar.reload(holidays, workdays);
+
+        // prefix[i]为[FIRST, FIRST + i)内的工作日数量，businessDays按顺序记录工作日的下标
+        long[] prefix = new long[DAYS + 1];
+        int[] businessDays = new int[DAYS];
+        int businessCount = 0;
+        for (int i = 0; i < DAYS; i++) {
+            LocalDate date = FIRST.plusDays(i);
+            boolean expected = workdays.contains(date)
+                    || !weekend.contains(date.getDayOfWeek()) && !holidays.contains(date);
+            assertEquals(expected, calendar.isBusinessDay(date), date.toString());
+            prefix[i + 1] = prefix[i] + (expected ? 1 : 0);
+            if (expected) {
+                businessDays[businessCount++] = i;
+            }
+        }
+
+        for (int k = 0; k < DAYS; k++) {
+            int start = random.nextInt(DAYS + 1);
+            int end = k < 1000 ? Math.min(DAYS, start + random.nextInt(400)) : random.nextInt(DAYS + 1);
+            long expected = prefix[end] - prefix[start];
+            LocalDate startDate = FIRST.plusDays(start);
+            LocalDate endDate = FIRST.plusDays(end);
+            assertEquals(expected, calendar.businessDaysBetween(startDate, endDate), startDate + " " + endDate);
+            assertEquals(-expected, calendar.businessDaysBetween(endDate, startDate), endDate + " " + startDate);
+        }
+
+        for (int k = 0; k < DAYS; k++) {
+            int index = random.nextInt(DAYS);
+            LocalDate date = FIRST.plusDays(index);
+            long after = prefix[DAYS] - prefix[index + 1];
+            long before = prefix[index];
+            if (after > 0) {
+                long n = 1 + (k % 2 == 0 ? random.nextInt((int) Math.min(after, 30)) : random.nextInt((int) after));
+                LocalDate expected = FIRST.plusDays(businessDays[(int) (prefix[index + 1] + n - 1)]);
+                assertEquals(expected, calendar.plusBusinessDays(date, n), date + " +" + n);
+            }
+            if (before > 0) {
+                long n = 1 + (k % 2 == 0 ? random.nextInt((int) Math.min(before, 30)) : random.nextInt((int) before));
+                LocalDate expected = FIRST.plusDays(businessDays[(int) (prefix[index] - n)]);
+                assertEquals(expected, calendar.plusBusinessDays(date, -n), date + " -" + n);
+            }
+        }
+    }
+
+    @Test
+    void plusZeroReturnsSameDate() {
+        BusinessCalendar calendar = BusinessCalendar.create();
+        LocalDate saturday = LocalDate.of(2024, 6, 1);
+        assertEquals(saturday, calendar.plusBusinessDays(saturday, 0));
+        assertEquals(LocalDate.of(2024, 6, 3), calendar.plusBusinessDays(saturday, 1));
+        assertEquals(LocalDate.of(2024, 5, 31), calendar.plusBusinessDays(saturday, -1));
+    }
+
+    @Test
+    void loadsHolidayFile() throws IOException {
+        Path file = directory.resolve("holidays.txt");
+        Files.write(file, Arrays.asList("# 国庆", "2021-10-01", "", " +2021-10-09 "), StandardCharsets.UTF_8);
+        BusinessCalendar calendar = BusinessCalendar.load(file);
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2021, 10, 1)));
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2021, 10, 9)));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2021, 10, 10)));
+
+        Files.write(file, Arrays.asList("2021-10-01", "2021/10/02"), StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () -> calendar.reload(file));
+        // 加载失败时保留原来的日历
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2021, 10, 9)));
+    }
+
+    @Test
+    void rejectsWeekWithoutBusinessDays() {
+        assertThrows(IllegalArgumentException.class, () -> BusinessCalendar.create(EnumSet.allOf(DayOfWeek.class)));
+    }
+}
@@ -0,0 +1,57 @@
+package com.soon.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 缓存时钟与DateTimeUtils全局时钟
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class CachedClockTest {
+    @AfterEach
+    void restoreClock() {
+        DateTimeUtils.setClock(null);
+    }
+
+    @Test
+    void clockCanBeReplaced() {
+        Clock fixed = Clock.fixed(Instant.ofEpochMilli(1_700_000_000_000L), ZoneOffset.UTC);
+        DateTimeUtils.setClock(fixed);
+        assertEquals(1_700_000_000_000L, DateTimeUtils.currentTimeMillis());
+        assertSame(fixed, DateTimeUtils.getClock());
+
+        DateTimeUtils.setClock(null);
+        assertSame(DateTimeUtils.getCachedClock(), DateTimeUtils.getClock());
+        assertTrue(Math.abs(DateTimeUtils.currentTimeMillis() - System.currentTimeMillis()) < 1000L);
+    }
+
+    @Test
+    void closingSharedClockDoesNotFreezeIt() throws InterruptedException {
+        try (CachedClock shared = DateTimeUtils.getCachedClock()) {
+            assertEquals(10L, shared.getResolution());
+        }
+        long before = DateTimeUtils.currentTimeMillis();
+        Thread.sleep(100L);
+        assertTrue(DateTimeUtils.currentTimeMillis() > before);
+    }
+
+    @Test
+    void closingOwnClockStopsIt() throws InterruptedException {
+        CachedClock clock = CachedClock.create(5L);
+        clock.close();
+        Thread.sleep(20L);
+        long frozen = clock.millis();
+        Thread.sleep(50L);
+        assertEquals(frozen, clock.millis());
+    }
+}
@@ -0,0 +1,151 @@
+package com.soon.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 控制台执行：输出读取、超时结束进程、只保留末尾输出的环形缓冲区
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class ConsoleExecutorTest {
+    /**
+     * 输出100000字节，每行10个字节（9个数字加换行）
+     */
+    private static final String LARGE_OUTPUT = "i=0; while [ $i -lt 10000 ]; do echo 12345678$((i % 10)); i=$((i+1)); done";
+
+    @TempDir
+    Path directory;
+
+    private static List<String> sh(String script) {
+        assumeTrue(!System.getProperty("os.name").toLowerCase().contains("win"));
+        return Arrays.asList("sh", "-c", script);
+    }
+
+    @Test
+    void drainsBothStreamsConcurrently() throws Exception {
+        // 两个流都远大于管道缓冲区，只读一个流时子进程会阻塞
+        ProcessResult result = ConsoleExecutor.executeAsync(sh("i=0; while [ $i -lt 2000 ]; do "
+                + "echo 0123456789012345678901234567890123456789012345678901234567890123456789; "
+                + "echo abcdefghijabcdefghijabcdefghijabcdefghijabcdefghijabcdefghijabcdefghij >&2; "
+                + "i=$((i+1)); done"), 30_000L).get(30, TimeUnit.SECONDS);
+        assertTrue(result.isSuccess());
+        assertFalse(result.isTimedOut());
+        assertEquals(2000 * 71, result.getStdout().length());
+        assertEquals(2000 * 71, result.getStderr().length());
+    }
+
+    @Test
+    void timeoutKillsProcessTree() throws Exception {
+        long start = System.nanoTime();
+        ProcessResult result = ConsoleExecutor.executeAsync(sh("echo started; sleep 30 & sleep 30"), 300L)
+                .get(10, TimeUnit.SECONDS);
+        assertTrue(result.isTimedOut());
+        assertFalse(result.isSuccess());
+        // 子进程sleep也被结束，管道关闭后输出完整读出
+        assertEquals("started\n", result.getStdout());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000L);
+    }
+
+    @Test
+    void timeoutDoesNotWaitForDetachedGrandchild() throws Exception {
+        // 子shell后台启动sleep后立即退出，sleep被过继、不在进程树中，仍持有标准输出
+        long start = System.nanoTime();
+        ProcessResult result = ConsoleExecutor.executeAsync(sh("(sleep 8 &); sleep 30"), 300L)
+                .get(10, TimeUnit.SECONDS);
+        assertTrue(result.isTimedOut());
+        assertEquals("", result.getStdout());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000L);
+    }
+
+    @Test
+    void tailBufferMatchesLastBytesOfEverythingWritten() {
+        Random random = new Random(5L);
+        for (int capacity : new int[]{0, 1, 7, 64}) {
+            for (int round = 0; round < 200; round++) {
+                ConsoleExecutor.TailBuffer tail = new ConsoleExecutor.TailBuffer(capacity);
+                StringBuilder written = new StringBuilder();
+                int writes = random.nextInt(20);
+                for (int w = 0; w < writes; w++) {
+                    if (random.nextInt(4) == 0) {
+                        char c = (char) ('a' + random.nextInt(26));
+                        tail.write(c);
+                        written.append(c);
+                        continue;
+                    }
+                    // 长度覆盖小于、等于、大于容量，以及从中间开始的偏移
+                    int len = random.nextInt(capacity * 3 + 2);
+                    int off = random.nextInt(3);
+                    byte[] b = new byte[off + len + random.nextInt(3)];
+                    for (int i = 0; i < b.length; i++) {
+                        b[i] = (byte) ('A' + random.nextInt(26));
+                    }
+                    tail.write(b, off, len);
+                    written.append(new String(b, off, len, StandardCharsets.US_ASCII));
+                }
+                String expected = written.substring(Math.max(0, written.length() - capacity));
+                assertEquals(expected, tail.toString(), capacity + " " + written);
+            }
+        }
+    }
+
+    @Test
+    void streamChunksKeepsOnlyTailInResult() throws Exception {
+        AtomicLong stdoutBytes = new AtomicLong();
+        ProcessResult result = ConsoleExecutor.streamChunks(sh(LARGE_OUTPUT + "; echo err >&2"), 30_000L,
+                (stderr, buffer, length) -> {
+                    if (!stderr) {
+                        stdoutBytes.addAndGet(length);
+                    }
+                }, 15).get(30, TimeUnit.SECONDS);
+        assertTrue(result.isSuccess());
+        // 回调收到全部输出，结果只保留最后15个字节
+        assertEquals(100_000L, stdoutBytes.get());
+        assertEquals("123456788\n123456789\n".substring(5), result.getStdout());
+        assertEquals("err\n", result.getStderr());
+
+        ProcessResult empty = ConsoleExecutor.streamChunks(sh(LARGE_OUTPUT), 30_000L, (stderr, buffer, length) -> {
+        }, 0).get(30, TimeUnit.SECONDS);
+        assertEquals("", empty.getStdout());
+    }
+
+    @Test
+    void streamLinesKeepsOnlyTailInResult() throws Exception {
+        AtomicInteger lines = new AtomicInteger();
+        ProcessResult result = ConsoleExecutor.streamLines(sh(LARGE_OUTPUT), 30_000L, (stderr, line) -> {
+            assertEquals(9, line.length());
+            lines.incrementAndGet();
+        }, 10).get(30, TimeUnit.SECONDS);
+        assertEquals(10_000, lines.get());
+        assertEquals("123456789\n", result.getStdout());
+    }
+
+    @Test
+    void executeToFileWritesEverythingAndKeepsStderrTail() throws Exception {
+        Path file = directory.resolve("out.txt");
+        ProcessResult result = ConsoleExecutor.executeToFile(sh(LARGE_OUTPUT + "; " + LARGE_OUTPUT.replace("done",
+                "done >&2")), 30_000L, file, 4).get(30, TimeUnit.SECONDS);
+        assertTrue(result.isSuccess());
+        assertEquals(100_000L, Files.size(file));
+        assertEquals("", result.getStdout());
+        assertEquals("789\n", result.getStderr());
+        assertThrows(IllegalArgumentException.class, () -> ConsoleExecutor.executeToFile(sh("true"), 0L, file, -1));
+    }
+}
@@ -0,0 +1,231 @@
+package com.soon.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * DateTimeCodec的结果与对应pattern的DateTimeFormatter对比
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class DateTimeCodecTest {
+    private static final ZoneOffset[] OFFSETS = {ZoneOffset.UTC, ZoneOffset.ofHours(8), ZoneOffset.ofHoursMinutes(-5, -30),
+            ZoneOffset.MAX, ZoneOffset.MIN};
+
+    private static List<LocalDateTime> samples() {
+        List<LocalDateTime> samples = new ArrayList<>(Arrays.asList(
+                LocalDateTime.of(1, 1, 1, 0, 0, 0),
+                LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_999),
+                LocalDateTime.of(1970, 1, 1, 0, 0, 0),
+                LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_000_000),
+                LocalDateTime.of(2000, 2, 29, 12, 30, 45, 1_000_000),
+                LocalDateTime.of(2024, 2, 29, 23, 59, 59, 500_000_000),
+                LocalDateTime.of(1600, 2, 29, 0, 0, 0),
+                LocalDateTime.of(1900, 2, 28, 0, 0, 0),
+                LocalDateTime.of(2100, 3, 1, 0, 0, 0),
+                LocalDateTime.of(2023, 12, 31, 23, 59, 59, 123_456_789)));
+        Random random = new Random(20261019L);
+        for (int i = 0; i < 20_000; i++) {
+            int year = 1 + random.nextInt(9999);
+            int month = 1 + random.nextInt(12);
+            int day = 1 + random.nextInt(java.time.YearMonth.of(year, month).lengthOfMonth());
+            samples.add(LocalDateTime.of(year, month, day, random.nextInt(24), random.nextInt(60), random.nextInt(60),
+                    random.nextInt(1_000_000_000)));
+        }
+        return samples;
+    }
+
+    @ParameterizedTest
+    @EnumSource(DateTimeCodec.Layout.class)
+    void formatMatchesFormatter(DateTimeCodec.Layout layout) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(layout.getPattern());
+        char[] chars = new char[layout.getLength() + 3];
+        byte[] bytes = new byte[layout.getLength() + 3];
+        for (LocalDateTime dateTime : samples()) {
+            String expected = formatter.format(dateTime);
+            assertEquals(expected, DateTimeCodec.format(dateTime, layout));
+
+            assertEquals(layout.getLength(), DateTimeCodec.formatTo(dateTime, layout, chars, 3));
+            assertEquals(expected, new String(chars, 3, layout.getLength()));
+
+            assertEquals(layout.getLength(), DateTimeCodec.formatTo(dateTime, layout, bytes, 3));
+            assertEquals(expected, new String(bytes, 3, layout.getLength(), StandardCharsets.US_ASCII));
+
+            StringBuilder builder = new StringBuilder("x=");
+            DateTimeCodec.appendTo(builder, dateTime, layout);
+            assertEquals("x=" + expected, builder.toString());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(DateTimeCodec.Layout.class)
+    void parseMatchesFormatter(DateTimeCodec.Layout layout) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(layout.getPattern());
+        for (LocalDateTime dateTime : samples()) {
+            String text = formatter.format(dateTime);
+            LocalDateTime expected = LocalDateTime.parse(text, formatter);
+            assertEquals(expected, DateTimeCodec.parse(text, layout));
+
+            byte[] bytes = ("  " + text).getBytes(StandardCharsets.US_ASCII);
+            assertEquals(expected, DateTimeCodec.parse(bytes, 2, layout));
+            for (ZoneOffset offset : OFFSETS) {
+                assertEquals(expected.toInstant(offset).toEpochMilli(),
+                        DateTimeCodec.parseEpochMilli(bytes, 2, layout, offset));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(DateTimeCodec.Layout.class)
+    void formatEpochMilliMatchesFormatter(DateTimeCodec.Layout layout) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(layout.getPattern());
+        char[] buf = new char[layout.getLength()];
+        List<Long> epochs = new ArrayList<>(Arrays.asList(0L, -1L, 1L, -86_400_000L, -86_400_001L, 951_782_400_000L,
+                -62_135_596_800_000L + 18 * 3_600_000L, 253_402_300_799_999L - 18 * 3_600_000L));
+        Random random = new Random(20261019L);
+        for (int i = 0; i < 20_000; i++) {
+            // 1年至9999年之间，包括1970年以前的负数时间戳
+            epochs.add(-62_135_596_800_000L + 18 * 3_600_000L
+                    + (long) (random.nextDouble() * (253_402_300_799_999L + 62_135_596_800_000L - 36 * 3_600_000L)));
+        }
+        for (long epochMilli : epochs) {
+            for (ZoneOffset offset : OFFSETS) {
+                LocalDateTime local = LocalDateTime.ofEpochSecond(Math.floorDiv(epochMilli, 1000L),
+                        (int) Math.floorMod(epochMilli, 1000L) * 1_000_000, offset);
+                assertEquals(layout.getLength(), DateTimeCodec.formatEpochMilli(epochMilli, offset, layout, buf, 0));
+                assertEquals(formatter.format(local), new String(buf), "epochMilli=" + epochMilli + " offset=" + offset);
+            }
+        }
+    }
+
+    @Test
+    void nonexistentDatesResolveLikeFormatter() {
+        DateTimeCodec.Layout layout = DateTimeCodec.Layout.STANDARD;
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(layout.getPattern());
+        for (String text : new String[]{"2023-02-29 10:00:00", "2100-02-29 00:00:00", "1900-02-29 00:00:00",
+                "2024-04-31 00:00:00", "2024-02-30 00:00:00"}) {
+            assertSameParse(text, layout, formatter);
+        }
+        assertEquals(LocalDateTime.of(2024, 2, 29, 0, 0), DateTimeCodec.parse("2024-02-29 00:00:00", layout));
+    }
+
+    @ParameterizedTest
+    @EnumSource(DateTimeCodec.Layout.class)
+    void malformedInputFailsLikeFormatter(DateTimeCodec.Layout layout) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(layout.getPattern());
+        String[] inputs = {"", "2024-01-01", "2024/01/01 00:00:00", "2024-13-01 00:00:00", "2024-00-10 00:00:00",
+                "2024-01-32 00:00:00", "2024-01-00 00:00:00", "2024-01-01 24:00:00", "2024-01-01 23:60:00",
+                "2024-01-01 23:59:60", "2024-01-01T00:00:00", "2024-01-01 00:00:00", "abcd-ef-gh ij:kl:mn",
+                "2024-01-01 00:00:0x", "0000-01-01 00:00:00", "0000-01-01T00:00:00", "+2024-01-01T00:00:00",
+                "10000-01-01T00:00:00", "2024-01-01T00:00:00.12", "2024-01-01T00:00:00,123",
+                "2024-01-01T00:00:00.12a", "2024-01-01T00:00:00.1234", "2024-1-01T00:00:00.000",
+                "２０２４-01-01T00:00:00"};
+        for (String input : inputs) {
+            assertSameParse(input, layout, formatter);
+            if (input.length() == layout.getLength()) {
+                byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+                if (bytes.length == layout.getLength()) {
+                    assertSameParse(bytes, layout, formatter);
+                }
+            }
+        }
+    }
+
+    @Test
+    void yearsOutsideRangeAreRejected() {
+        LocalDateTime year0 = LocalDateTime.of(0, 1, 1, 0, 0);
+        LocalDateTime year10000 = LocalDateTime.of(10000, 1, 1, 0, 0);
+        assertFalse(DateTimeCodec.isSupported(year0));
+        assertFalse(DateTimeCodec.isSupported(year10000));
+        assertTrue(DateTimeCodec.isSupported(LocalDateTime.of(9999, 12, 31, 23, 59)));
+        assertTrue(DateTimeCodec.isSupported(LocalDateTime.of(1, 1, 1, 0, 0)));
+        for (DateTimeCodec.Layout layout : DateTimeCodec.Layout.values()) {
+            assertThrows(DateTimeException.class, () -> DateTimeCodec.format(year0, layout));
+            assertThrows(DateTimeException.class, () -> DateTimeCodec.format(year10000, layout));
+            // 1年1月1日之前的时间戳
+            assertThrows(DateTimeException.class, () -> DateTimeCodec.formatEpochMilli(-62_135_596_800_001L,
+                    ZoneOffset.UTC, layout, new char[layout.getLength()], 0));
+        }
+        // DateTimeUtils对不支持的年份退回DateTimeFormatter
+        assertEquals(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(year0),
+                DateTimeUtils.format(year0, "yyyy-MM-dd HH:mm:ss"));
+    }
+
+    @Test
+    void appendToLeavesBuilderUntouchedOnFailure() {
+        for (DateTimeCodec.Layout layout : DateTimeCodec.Layout.values()) {
+            StringBuilder builder = new StringBuilder("insert into t values ('");
+            String before = builder.toString();
+            assertThrows(DateTimeException.class,
+                    () -> DateTimeCodec.appendTo(builder, LocalDateTime.of(10000, 1, 1, 0, 0), layout));
+            assertThrows(DateTimeException.class,
+                    () -> DateTimeCodec.appendTo(builder, LocalDateTime.of(0, 1, 1, 0, 0), layout));
+            assertThrows(NullPointerException.class, () -> DateTimeCodec.appendTo(builder, null, layout));
+            assertEquals(before, builder.toString());
+        }
+        assertThrows(NullPointerException.class,
+                () -> DateTimeCodec.appendTo(null, LocalDateTime.of(2024, 1, 1, 0, 0), DateTimeCodec.Layout.ISO));
+    }
+
+    @Test
+    void offsetOutOfRange() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+        DateTimeCodec.Layout layout = DateTimeCodec.Layout.ISO_MILLIS;
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> DateTimeCodec.formatTo(dateTime, layout, new char[layout.getLength()], 1));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> DateTimeCodec.formatTo(dateTime, layout, new byte[layout.getLength()], -1));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> DateTimeCodec.parse(new byte[layout.getLength() - 1], 0, layout));
+        char[] untouched = new char[layout.getLength()];
+        assertThrows(IndexOutOfBoundsException.class, () -> DateTimeCodec.formatTo(dateTime, layout, untouched, 2));
+        assertArrayEquals(new char[layout.getLength()], untouched);
+    }
+
+    private static void assertSameParse(String text, DateTimeCodec.Layout layout, DateTimeFormatter formatter) {
+        LocalDateTime expected;
+        try {
+            expected = LocalDateTime.parse(text, formatter);
+        } catch (DateTimeParseException e) {
+            assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parse(text, layout), text);
+            return;
+        }
+        assertEquals(expected, DateTimeCodec.parse(text, layout), text);
+    }
+
+    private static void assertSameParse(byte[] ascii, DateTimeCodec.Layout layout, DateTimeFormatter formatter) {
+        String text = new String(ascii, StandardCharsets.ISO_8859_1);
+        LocalDateTime expected;
+        try {
+            expected = LocalDateTime.parse(text, formatter);
+        } catch (DateTimeParseException e) {
+            assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parse(ascii, 0, layout), text);
+            return;
+        }
+        try {
+            assertEquals(expected, DateTimeCodec.parse(ascii, 0, layout), text);
+        } catch (DateTimeParseException e) {
+            fail(text + " " + e);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.soon.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 时间戳与本地时间互转：批量、流式的结果与逐个转换、ZonedDateTime一致，覆盖夏令时跳过与重叠的时间
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class EpochConverterTest {
+    private static final List<ZoneId> ZONES = Arrays.asList(ZoneId.of("Europe/Berlin"), ZoneId.of("America/New_York"),
+            ZoneId.of("Australia/Lord_Howe"), ZoneId.of("Asia/Shanghai"), ZoneId.of("UTC"));
+
+    /**
+     * 2023-2025年每次偏移变化前后两小时内，每隔7分钟取一个时间戳，打乱顺序使缓存的偏移区间不断切换
+     */
+    private static long[] millisAroundTransitions(ZoneRules rules) {
+        List<Long> millis = new ArrayList<>();
+        for (ZoneOffsetTransition transition : transitions(rules)) {
+            long at = transition.toEpochSecond() * 1000L;
+            for (long delta = -7_200_000L; delta <= 7_200_000L; delta += 420_000L) {
+                millis.add(at + delta);
+                millis.add(at + delta - 1L);
+            }
+        }
+        // 1970年之前的时间戳按floorDiv取整
+        millis.add(-1L);
+        millis.add(-86_400_001L);
+        Collections.shuffle(millis, new Random(7L));
+        return millis.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * 每次偏移变化前后两小时的本地时间，包含跳过（不存在）和重叠（对应两个时间戳）的时间
+     */
+    private static LocalDateTime[] localTimesAroundTransitions(ZoneRules rules) {
+        List<LocalDateTime> dateTimes = new ArrayList<>();
+        for (ZoneOffsetTransition transition : transitions(rules)) {
+            LocalDateTime at = transition.getDateTimeBefore();
+            for (int minutes = -120; minutes <= 120; minutes += 5) {
+                dateTimes.add(at.plusMinutes(minutes).withNano(123_000_000));
+            }
+        }
+        dateTimes.add(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_000_000));
+        Collections.shuffle(dateTimes, new Random(11L));
+        return dateTimes.toArray(new LocalDateTime[0]);
+    }
+
+    private static List<ZoneOffsetTransition> transitions(ZoneRules rules) {
+        List<ZoneOffsetTransition> transitions = new ArrayList<>();
+        Instant end = Instant.parse("2026-01-01T00:00:00Z");
+        ZoneOffsetTransition transition = rules.nextTransition(Instant.parse("2023-01-01T00:00:00Z"));
+        while (transition != null && transition.getInstant().isBefore(end)) {
+            transitions.add(transition);
+            transition = rules.nextTransition(transition.getInstant());
+        }
+        return transitions;
+    }
+
+    @Test
+    void epochMillisMatchZonedDateTime() {
+        for (ZoneId zone : ZONES) {
+            EpochConverter converter = EpochConverter.of(zone);
+            long[] millis = millisAroundTransitions(zone.getRules());
+            LocalDateTime[] expected = new LocalDateTime[millis.length];
+            for (int i = 0; i < millis.length; i++) {
+                expected[i] = Instant.ofEpochMilli(millis[i]).atZone(zone).toLocalDateTime();
+                assertEquals(expected[i], converter.toLocalDateTime(millis[i]), zone + " " + millis[i]);
+            }
+            assertArrayEquals(expected, converter.toLocalDateTimes(millis), zone.toString());
+            assertEquals(Arrays.asList(expected),
+                    converter.toLocalDateTimes(Arrays.stream(millis)).collect(Collectors.toList()), zone.toString());
+            assertEquals(Arrays.asList(expected),
+                    converter.toLocalDateTimes(Arrays.stream(millis).parallel()).collect(Collectors.toList()),
+                    zone.toString());
+            Date[] dates = Arrays.stream(millis).mapToObj(Date::new).toArray(Date[]::new);
+            assertArrayEquals(expected, converter.toLocalDateTimes(dates), zone.toString());
+        }
+    }
+
+    @Test
+    void localDateTimesMatchZonedDateTimeAcrossGapsAndOverlaps() {
+        for (ZoneId zone : ZONES) {
+            EpochConverter converter = EpochConverter.of(zone);
+            LocalDateTime[] dateTimes = localTimesAroundTransitions(zone.getRules());
+            long[] expected = new long[dateTimes.length];
+            for (int i = 0; i < dateTimes.length; i++) {
+                // 重叠取较早的偏移，跳过的时间向后顺延
+                expected[i] = dateTimes[i].atZone(zone).toInstant().toEpochMilli();
+                assertEquals(expected[i], converter.toEpochMilli(dateTimes[i]), zone + " " + dateTimes[i]);
+            }
+            assertArrayEquals(expected, converter.toEpochMillis(dateTimes), zone.toString());
+            assertArrayEquals(expected, converter.toEpochMillis(Arrays.stream(dateTimes)).toArray(), zone.toString());
+            assertArrayEquals(expected, converter.toEpochMillis(Arrays.stream(dateTimes).parallel()).toArray(),
+                    zone.toString());
+            long[] fromDates = Arrays.stream(converter.toDates(dateTimes)).mapToLong(Date::getTime).toArray();
+            assertArrayEquals(expected, fromDates, zone.toString());
+        }
+    }
+
+    @Test
+    void berlinGapAndOverlap() {
+        ZoneId berlin = ZoneId.of("Europe/Berlin");
+        EpochConverter converter = EpochConverter.of(berlin);
+        // 2024-03-31 02:30不存在，顺延到03:30（+02:00）
+        LocalDateTime gap = LocalDateTime.of(2024, 3, 31, 2, 30);
+        assertEquals(Instant.parse("2024-03-31T01:30:00Z").toEpochMilli(), converter.toEpochMilli(gap));
+        // 2024-10-27 02:30出现两次，取较早的+02:00
+        LocalDateTime overlap = LocalDateTime.of(2024, 10, 27, 2, 30);
+        assertEquals(Instant.parse("2024-10-27T00:30:00Z").toEpochMilli(), converter.toEpochMilli(overlap));
+        assertEquals(overlap, converter.toLocalDateTime(Instant.parse("2024-10-27T00:30:00Z").toEpochMilli()));
+        assertEquals(overlap, converter.toLocalDateTime(Instant.parse("2024-10-27T01:30:00Z").toEpochMilli()));
+    }
+
+    @Test
+    void nullElementsStayNull() {
+        EpochConverter converter = EpochConverter.of(ZoneId.of("Europe/Berlin"));
+        LocalDateTime[] dateTimes = converter.toLocalDateTimes(new Date[]{null, new Date(0L)});
+        assertNull(dateTimes[0]);
+        assertEquals(LocalDateTime.of(1970, 1, 1, 1, 0), dateTimes[1]);
+        Date[] dates = converter.toDates(new LocalDateTime[]{LocalDateTime.of(1970, 1, 1, 1, 0), null});
+        assertEquals(new Date(0L), dates[0]);
+        assertNull(dates[1]);
+    }
+}
@@ -0,0 +1,71 @@
+package com.soon.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.NumberFormat;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 补零：不截断的fillZero与截断的fillZeroTruncated
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class NumberUtilsTest {
+    private static String numberFormat(long number, int digit) {
+        NumberFormat format = NumberFormat.getInstance();
+        format.setGroupingUsed(false);
+        format.setMinimumIntegerDigits(digit);
+        format.setMaximumIntegerDigits(digit);
+        return format.format(number);
+    }
+
+    @Test
+    void fillZeroKeepsAllDigits() {
+        assertEquals("12345", NumberUtils.fillZero(12345, 4));
+        assertEquals("00042", NumberUtils.fillZero(42, 5));
+        assertEquals("-00042", NumberUtils.fillZero(-42, 5));
+        assertEquals("7", NumberUtils.fillZero(7, 0));
+        assertEquals("-7", NumberUtils.fillZero(-7, -3));
+        assertEquals(Long.toString(Long.MIN_VALUE), NumberUtils.fillZero(Long.MIN_VALUE, 4));
+        assertEquals("0000" + Long.MAX_VALUE, NumberUtils.fillZero(Long.MAX_VALUE, 23));
+        assertEquals(NumberUtils.MAX_FILL_DIGITS, NumberUtils.fillZero(1, Integer.MAX_VALUE).length());
+
+        Random random = new Random(36);
+        for (int i = 0; i < 10_000; i++) {
+            long number = random.nextLong() >>> (1 + random.nextInt(63));
+            int digit = 1 + random.nextInt(25);
+            assertEquals(String.format("%0" + digit + "d", number), NumberUtils.fillZero(number, digit));
+        }
+    }
+
+    @Test
+    void writersFollowFillZero() {
+        long[] numbers = {0L, 5L, -5L, 12345L, -12345L, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (long number : numbers) {
+            for (int digit = -1; digit <= 25; digit++) {
+                String expected = NumberUtils.fillZero(number, digit);
+                assertEquals(expected.length(), NumberUtils.fillZeroLength(number, digit));
+                char[] buf = new char[expected.length() + 2];
+                assertEquals(expected.length(), NumberUtils.writeZeroPadded(number, digit, buf, 1));
+                assertEquals(expected, new String(buf, 1, expected.length()));
+                assertEquals("x" + expected, NumberUtils.appendZeroPadded(new StringBuilder("x"), number, digit).toString());
+            }
+        }
+    }
+
+    @Test
+    void fillZeroTruncatedMatchesNumberFormat() {
+        assertEquals("2345", NumberUtils.fillZeroTruncated(12345, 4));
+        assertEquals("000042", NumberUtils.fillZeroTruncated(42, 6));
+        long[] numbers = {0L, 7L, -7L, 12345L, -12345L, 2_147_483_647L, Long.MAX_VALUE, Long.MIN_VALUE + 1};
+        for (long number : numbers) {
+            for (int digit = 0; digit <= 22; digit++) {
+                assertEquals(numberFormat(number, digit), NumberUtils.fillZeroTruncated(number, digit),
+                        number + "/" + digit);
+            }
+        }
+    }
+}
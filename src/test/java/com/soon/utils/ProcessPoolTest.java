@@ -0,0 +1,110 @@
+package com.soon.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 进程池：并发限制、优先级、拒绝、过期与取消
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class ProcessPoolTest {
+    private static List<String> sh(String script) {
+        assumeTrue(!System.getProperty("os.name").toLowerCase().contains("win"));
+        return Arrays.asList("sh", "-c", script);
+    }
+
+    @Test
+    void runsQueuedCommandsByPriority() throws Exception {
+        try (ProcessPool pool = ProcessPool.create(1, 10)) {
+            CompletableFuture<ProcessResult> blocker = pool.submit(sh("sleep 0.3"), 10_000L);
+            List<String> order = Collections.synchronizedList(new ArrayList<>());
+            List<CompletableFuture<?>> futures = new ArrayList<>();
+            for (int priority : new int[]{0, 5, 1}) {
+                futures.add(pool.submit(sh("echo " + priority), 10_000L, priority, 0L)
+                        .thenAccept(result -> order.add(result.getStdout().trim())));
+            }
+            assertEquals(1, pool.getRunning());
+            assertEquals(3, pool.getQueueDepth());
+            blocker.get(10, TimeUnit.SECONDS);
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+            assertEquals(Arrays.asList("5", "1", "0"), order);
+            assertEquals(4, pool.getCompletedCount());
+        }
+    }
+
+    @Test
+    void rejectsWhenQueueIsFullOrClosed() throws Exception {
+        ProcessPool pool = ProcessPool.create(1, 1);
+        CompletableFuture<ProcessResult> running = pool.submit(sh("sleep 0.3"), 10_000L);
+        CompletableFuture<ProcessResult> queued = pool.submit(sh("true"), 10_000L);
+        ExecutionException full = assertThrows(ExecutionException.class,
+                () -> pool.submit(sh("true"), 10_000L).get(1, TimeUnit.SECONDS));
+        assertEquals(RejectedExecutionException.class, full.getCause().getClass());
+
+        pool.close();
+        ExecutionException closed = assertThrows(ExecutionException.class, () -> queued.get(1, TimeUnit.SECONDS));
+        assertEquals(RejectedExecutionException.class, closed.getCause().getClass());
+        assertTrue(running.get(10, TimeUnit.SECONDS).isSuccess());
+        // 关闭时移出队列的命令不计入拒绝数
+        assertEquals(1, pool.getRejectedCount());
+    }
+
+    @Test
+    void expiresCommandsPastDeadline() throws Exception {
+        try (ProcessPool pool = ProcessPool.create(1, 10)) {
+            pool.submit(sh("sleep 0.5"), 10_000L);
+            CompletableFuture<ProcessResult> late = pool.submit(sh("true"), 10_000L, 0, 100L);
+            ExecutionException e = assertThrows(ExecutionException.class, () -> late.get(5, TimeUnit.SECONDS));
+            assertEquals(TimeoutException.class, e.getCause().getClass());
+            assertEquals(1, pool.getExpiredCount());
+            assertEquals(0, pool.getQueueDepth());
+        }
+    }
+
+    @Test
+    void cancellingRunningCommandKillsProcess() throws Exception {
+        try (ProcessPool pool = ProcessPool.create(1, 10)) {
+            CompletableFuture<ProcessResult> running = pool.submit(sh("sleep 30"), 0L);
+            CompletableFuture<ProcessResult> next = pool.submit(sh("echo next"), 0L);
+            Thread.sleep(100L);
+            long start = System.nanoTime();
+            assertTrue(running.cancel(true));
+            assertThrows(CancellationException.class, running::join);
+            // 名额在进程被结束后才释放，排队的命令随后启动
+            assertEquals("next", next.get(5, TimeUnit.SECONDS).getStdout().trim());
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000L);
+            assertEquals(1, pool.getCompletedCount());
+        }
+    }
+
+    @Test
+    void cancellingQueuedCommandRemovesIt() throws Exception {
+        try (ProcessPool pool = ProcessPool.create(1, 10)) {
+            CompletableFuture<ProcessResult> running = pool.submit(sh("sleep 0.2"), 10_000L);
+            CompletableFuture<ProcessResult> queued = pool.submit(sh("true"), 10_000L);
+            assertEquals(1, pool.getQueueDepth());
+            queued.cancel(true);
+            assertEquals(0, pool.getQueueDepth());
+            running.get(10, TimeUnit.SECONDS);
+            Thread.sleep(50L);
+            assertEquals(0, pool.getRunning());
+        }
+    }
+}
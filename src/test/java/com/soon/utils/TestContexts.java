@@ -0,0 +1,31 @@
+package com.soon.utils;
+
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.lang.reflect.Field;
+import java.util.function.Consumer;
+
+/**
+ * 测试用的应用上下文：ApplicationContextUtils只接受一次setApplicationContext，测试之间通过反射替换
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+final class TestContexts {
+    private TestContexts() {}
+
+    static GenericApplicationContext install(Consumer<GenericApplicationContext> registrar) {
+        GenericApplicationContext context = new GenericApplicationContext();
+        registrar.accept(context);
+        context.refresh();
+        try {
+            Field field = ApplicationContextUtils.class.getDeclaredField("applicationContext");
+            field.setAccessible(true);
+            field.set(null, context);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+        ApplicationContextUtils.invalidate();
+        return context;
+    }
+}
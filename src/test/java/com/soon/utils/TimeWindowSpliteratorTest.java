@@ -0,0 +1,112 @@
+package com.soon.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 时间窗口分割：夏令时、月末、超大日期单位与并行拆分
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class TimeWindowSpliteratorTest {
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+    private static long milli(LocalDateTime dateTime, ZoneId zone) {
+        return ZonedDateTime.of(dateTime, zone).toInstant().toEpochMilli();
+    }
+
+    private static List<TimeWindow> windows(LocalDateTime start, LocalDateTime end, long amount, ChronoUnit unit,
+                                            ZoneId zone) {
+        return DateTimeUtils.windows(start, end, amount, unit, zone).collect(Collectors.toList());
+    }
+
+    @Test
+    void hourlyWindowsFollowElapsedTimeAcrossDstGap() {
+        // 2024-03-31 02:00柏林时间拨快到03:00，本地6个小时实际只经过5个小时
+        LocalDateTime start = LocalDateTime.of(2024, 3, 31, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 3, 31, 6, 0);
+        List<TimeWindow> windows = windows(start, end, 1, ChronoUnit.HOURS, BERLIN);
+        assertEquals(5, windows.size());
+        assertEquals(milli(start, BERLIN), windows.get(0).getStart());
+        assertEquals(milli(end, BERLIN), windows.get(4).getEnd());
+        for (TimeWindow window : windows) {
+            assertEquals(3_600_000L, window.getEnd() - window.getStart());
+        }
+    }
+
+    @Test
+    void dailyWindowsFollowLocalCalendarAcrossDst() {
+        LocalDateTime start = LocalDateTime.of(2024, 3, 30, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 4, 1, 0, 0);
+        List<TimeWindow> spring = windows(start, end, 1, ChronoUnit.DAYS, BERLIN);
+        assertEquals(Arrays.asList(new TimeWindow(milli(start, BERLIN), milli(start.plusDays(1), BERLIN)),
+                new TimeWindow(milli(start.plusDays(1), BERLIN), milli(end, BERLIN))), spring);
+        assertEquals(23 * 3_600_000L, spring.get(1).getEnd() - spring.get(1).getStart());
+
+        // 2024-10-27 03:00拨回到02:00，当天有25个小时
+        List<TimeWindow> autumn = windows(LocalDateTime.of(2024, 10, 27, 0, 0), LocalDateTime.of(2024, 10, 28, 0, 0),
+                1, ChronoUnit.DAYS, BERLIN);
+        assertEquals(1, autumn.size());
+        assertEquals(25 * 3_600_000L, autumn.get(0).getEnd() - autumn.get(0).getStart());
+    }
+
+    @Test
+    void monthlyWindowsStartingAtMonthEnd() {
+        ZoneId utc = ZoneId.of("UTC");
+        LocalDateTime start = LocalDateTime.of(2024, 1, 31, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 5, 15, 0, 0);
+        List<TimeWindow> windows = windows(start, end, 1, ChronoUnit.MONTHS, utc);
+        // 每个窗口都从起点累加，不会因为2月只有29天而把之后的窗口都截到29日
+        List<LocalDateTime> bounds = Arrays.asList(start, LocalDateTime.of(2024, 2, 29, 0, 0),
+                LocalDateTime.of(2024, 3, 31, 0, 0), LocalDateTime.of(2024, 4, 30, 0, 0), end);
+        assertEquals(bounds.size() - 1, windows.size());
+        for (int i = 0; i < windows.size(); i++) {
+            assertEquals(new TimeWindow(milli(bounds.get(i), utc), milli(bounds.get(i + 1), utc)), windows.get(i));
+        }
+    }
+
+    @Test
+    void largeCalendarUnitsYieldSingleWindow() {
+        ZoneId utc = ZoneId.of("UTC");
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 1, 1, 0, 0);
+        TimeWindow whole = new TimeWindow(milli(start, utc), milli(end, utc));
+        for (ChronoUnit unit : Arrays.asList(ChronoUnit.CENTURIES, ChronoUnit.MILLENNIA, ChronoUnit.ERAS)) {
+            assertEquals(Arrays.asList(whole), windows(start, end, 1, unit, utc), unit.toString());
+        }
+    }
+
+    @Test
+    void rejectsUnsupportedUnits() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime end = start.plusDays(1);
+        for (ChronoUnit unit : Arrays.asList(ChronoUnit.NANOS, ChronoUnit.MICROS, ChronoUnit.FOREVER)) {
+            assertThrows(IllegalArgumentException.class, () -> TimeWindowSpliterator.of(start, end, 1, unit, BERLIN),
+                    unit.toString());
+        }
+        assertThrows(IllegalArgumentException.class, () -> TimeWindowSpliterator.of(start, end, 0, ChronoUnit.DAYS, BERLIN));
+    }
+
+    @Test
+    void parallelSplitKeepsOrder() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 12, 31, 7, 0);
+        List<TimeWindow> sequential = windows(start, end, 7, ChronoUnit.HOURS, BERLIN);
+        List<TimeWindow> parallel = StreamSupport.stream(TimeWindowSpliterator.of(start, end, 7, ChronoUnit.HOURS, BERLIN), true)
+                .collect(Collectors.toList());
+        assertEquals(sequential, parallel);
+        assertEquals(milli(end, BERLIN), sequential.get(sequential.size() - 1).getEnd());
+    }
+}
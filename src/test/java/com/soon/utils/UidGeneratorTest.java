@@ -0,0 +1,139 @@
+package com.soon.utils;
+
+import com.soon.utils.uid.IdCodec;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * UUIDv7的位布局与毫秒内计数器、去掉"-"的UUID字符串
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class UidGeneratorTest {
+    private static final int COUNT = 200_000;
+
+    private static long timestamp(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static int counter(UUID uuid) {
+        return (int) (uuid.getMostSignificantBits() & 0xFFFL);
+    }
+
+    @Test
+    void v7LayoutFollowsRfc9562() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UidGenerator.getUuidV7();
+        long after = System.currentTimeMillis();
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        // 之前的测试可能借用了之后的毫秒，这里只检查下限和合理的上限
+        assertTrue(timestamp(uuid) >= before, uuid.toString());
+        assertTrue(timestamp(uuid) <= after + COUNT, uuid.toString());
+        String clean = UidGenerator.toCleanString(uuid);
+        assertEquals(uuid.toString().replace("-", ""), clean);
+        assertEquals('7', clean.charAt(12));
+    }
+
+    @Test
+    void v7IsStrictlyIncreasingWithinAndAcrossMilliseconds() {
+        UUID previous = UidGenerator.getUuidV7();
+        int sameMillisecond = 0;
+        for (int i = 0; i < COUNT; i++) {
+            UUID uuid = UidGenerator.getUuidV7();
+            assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), uuid.getMostSignificantBits()) < 0,
+                    previous + " " + uuid);
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+            if (timestamp(uuid) == timestamp(previous)) {
+                assertEquals(counter(previous) + 1, counter(uuid), previous + " " + uuid);
+                sameMillisecond++;
+            } else {
+                // 新的毫秒从低半区起步（借用时为0），保留至少2048个递增空间
+                assertTrue(counter(uuid) < 2048, uuid.toString());
+            }
+            previous = uuid;
+        }
+        assertTrue(sameMillisecond > 0);
+        // 每借用一毫秒至少消耗2048个计数，超前的毫秒数有上限
+        long ahead = timestamp(previous) - System.currentTimeMillis();
+        assertTrue(ahead <= COUNT / 1024, String.valueOf(ahead));
+    }
+
+    @Test
+    void v7StringsSortInGenerationOrder() {
+        String previousClean = UidGenerator.getCleanUuidV7();
+        String previousCompact = UidGenerator.getCompactUuidV7();
+        for (int i = 0; i < 10_000; i++) {
+            String clean = UidGenerator.getCleanUuidV7();
+            String compact = UidGenerator.getCompactUuidV7();
+            assertTrue(previousClean.compareTo(clean) < 0, previousClean + " " + clean);
+            assertTrue(previousCompact.compareTo(compact) < 0, previousCompact + " " + compact);
+            assertTrue(clean.compareTo(UidGenerator.toCleanString(IdCodec.BASE62.decodeUuid(compact))) < 0);
+            previousClean = clean;
+            previousCompact = compact;
+        }
+    }
+
+    @Test
+    void v7IsUniqueAndOrderedPerThreadUnderContention() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    List<UUID> uuids = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        uuids.add(UidGenerator.getUuidV7());
+                    }
+                    return uuids;
+                }));
+            }
+            Set<Long> mostSigBits = new HashSet<>();
+            for (Future<List<UUID>> future : futures) {
+                List<UUID> uuids = future.get();
+                for (int i = 0; i < uuids.size(); i++) {
+                    // 时间戳和计数器在所有线程间唯一
+                    assertTrue(mostSigBits.add(uuids.get(i).getMostSignificantBits()), uuids.get(i).toString());
+                    if (i > 0) {
+                        assertTrue(Long.compareUnsigned(uuids.get(i - 1).getMostSignificantBits(),
+                                uuids.get(i).getMostSignificantBits()) < 0);
+                    }
+                }
+            }
+            assertEquals(threads * perThread, mostSigBits.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void fastCleanUidIsVersion4() {
+        for (int i = 0; i < 1000; i++) {
+            String clean = UidGenerator.getFastCleanUid();
+            assertEquals(32, clean.length());
+            assertTrue(clean.matches("[0-9a-f]{32}"), clean);
+            UUID uuid = UUID.fromString(clean.replaceFirst("(.{8})(.{4})(.{4})(.{4})(.{12})", "$1-$2-$3-$4-$5"));
+            assertEquals(4, uuid.version());
+            assertEquals(2, uuid.variant());
+            assertEquals(clean, UidGenerator.toCleanString(uuid));
+        }
+        assertEquals(32, UidGenerator.getCleanUid().length());
+        assertThrows(NullPointerException.class, () -> UidGenerator.toCleanString(null));
+    }
+}
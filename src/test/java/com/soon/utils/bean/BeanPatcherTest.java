@@ -0,0 +1,168 @@
+package com.soon.utils.bean;
+
+import com.soon.utils.BeanCopierUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 补丁拷贝：null跳过、相同值不记录、基本类型的默认值、只写属性
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class BeanPatcherTest {
+    @Test
+    void unchangedValuesAreNotReported() {
+        Patch patch = new Patch();
+        patch.setName("soon");
+        patch.setAge(18);
+        patch.setActive(true);
+        Entity entity = new Entity();
+        entity.setName("soon");
+        entity.setAge(18);
+        entity.setActive(true);
+        entity.setScore(90);
+
+        BitSet changed = BeanCopierUtils.patch(patch, entity);
+        assertTrue(changed.isEmpty());
+        assertEquals(Integer.valueOf(90), entity.getScore());
+    }
+
+    @Test
+    void reportsOnlyChangedProperties() {
+        Patch patch = new Patch();
+        patch.setAge(20);
+        patch.setActive(true);
+        patch.setScore(95);
+        Entity entity = new Entity();
+        entity.setName("soon");
+        entity.setAge(18);
+        entity.setActive(true);
+        entity.setScore(90);
+
+        BitSet changed = BeanCopierUtils.patch(patch, entity);
+        BeanPatcher patcher = BeanCopierUtils.getPatcher(Patch.class, Entity.class);
+        assertEquals(Arrays.asList("age", "score"), patcher.getPropertyNames(changed));
+        assertEquals("soon", entity.getName());
+        assertEquals(20, entity.getAge());
+        assertEquals(Integer.valueOf(95), entity.getScore());
+    }
+
+    @Test
+    void primitiveDefaultsOverwriteTarget() {
+        // 基本类型没有null，未赋值的0、false与目标值不同时同样会被拷贝
+        Entity entity = new Entity();
+        entity.setAge(18);
+        entity.setActive(true);
+        BitSet changed = BeanCopierUtils.patch(new Patch(), entity);
+        assertEquals(Arrays.asList("active", "age"),
+                BeanCopierUtils.getPatcher(Patch.class, Entity.class).getPropertyNames(changed));
+        assertEquals(0, entity.getAge());
+        assertEquals(false, entity.isActive());
+
+        assertTrue(BeanCopierUtils.patch(new Patch(), new Entity()).isEmpty());
+    }
+
+    @Test
+    void writeOnlyTargetIsAlwaysReported() {
+        Patch patch = new Patch();
+        patch.setName("soon");
+        WriteOnly target = new WriteOnly();
+        BeanPatcher patcher = BeanCopierUtils.getPatcher(Patch.class, WriteOnly.class);
+        assertEquals(Collections.singletonList("name"), patcher.getPropertyNames(patcher.patch(patch, target)));
+        assertEquals(Collections.singletonList("name"), patcher.getPropertyNames(patcher.patch(patch, target)));
+        assertEquals("soon", target.name);
+    }
+
+    public static class Patch {
+        private String name;
+        private int age;
+        private boolean active;
+        private Integer score;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public Integer getScore() {
+            return score;
+        }
+
+        public void setScore(Integer score) {
+            this.score = score;
+        }
+    }
+
+    public static class Entity {
+        private String name;
+        private int age;
+        private boolean active;
+        private Integer score;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public Integer getScore() {
+            return score;
+        }
+
+        public void setScore(Integer score) {
+            this.score = score;
+        }
+    }
+
+    public static class WriteOnly {
+        private String name;
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.soon.utils.bean;
+
+import net.sf.cglib.core.Converter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 各拷贝器引擎与cglib的BeanCopier结果一致：基本类型、包装类型、类型不兼容、继承的属性、转换器
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class CopierEngineTest {
+    private static final CopierEngine[] ENGINES = {CopierEngine.LAMBDA, CopierEngine.REFLECT};
+
+    /**
+     * 数字按目标类型转换，字符串目标转为文本，setScore返回null
+     */
+    private static final Converter CONVERTER = (value, targetType, context) -> {
+        if ("setScore".equals(context)) {
+            return null;
+        }
+        if (value == null) {
+            return null;
+        }
+        if (targetType == String.class) {
+            return String.valueOf(value);
+        }
+        if (value instanceof Number) {
+            Number number = (Number) value;
+            if (targetType == int.class || targetType == Integer.class) {
+                return number.intValue();
+            }
+            if (targetType == long.class || targetType == Long.class) {
+                return number.longValue();
+            }
+        }
+        return value;
+    };
+
+    private static Source source() {
+        Source source = new Source();
+        source.setId(7L);
+        source.setCreator("root");
+        source.setName("soon");
+        source.setAge(18);
+        source.setActive(true);
+        source.setScore(90);
+        source.setCount(3L);
+        source.setBoxedAge(20);
+        source.setRatio(0.5D);
+        source.setTags(Arrays.asList("a", "b"));
+        return source;
+    }
+
+    private static Map<String, Object> copy(CopierEngine engine, boolean useConverter) {
+        Target target = new Target();
+        target.setScore(-1);
+        engine.create(Source.class, Target.class, useConverter).copy(source(), target, useConverter ? CONVERTER : null);
+        return BeanProperties.of(Target.class).toMap(target);
+    }
+
+    @Test
+    void matchesCglibWithoutConverter() {
+        Map<String, Object> expected = copy(CopierEngine.CGLIB, false);
+        // 类型不兼容的属性不拷贝：long -> int、Integer -> int、double -> String
+        assertEquals(0, expected.get("count"));
+        assertEquals(0, expected.get("boxedAge"));
+        assertEquals(null, expected.get("ratio"));
+        assertEquals(7L, expected.get("id"));
+        for (CopierEngine engine : ENGINES) {
+            assertEquals(expected, copy(engine, false), engine.name());
+        }
+    }
+
+    @Test
+    void matchesCglibWithConverter() {
+        Map<String, Object> expected = copy(CopierEngine.CGLIB, true);
+        assertEquals(3, expected.get("count"));
+        assertEquals(20, expected.get("boxedAge"));
+        assertEquals("0.5", expected.get("ratio"));
+        assertEquals("7", expected.get("creatorId"));
+        for (CopierEngine engine : ENGINES) {
+            assertEquals(expected, copy(engine, true), engine.name());
+        }
+    }
+
+    @Test
+    void nullFromConverterBecomesZeroForPrimitives() {
+        for (CopierEngine engine : CopierEngine.values()) {
+            PrimitiveTarget target = new PrimitiveTarget();
+            target.setScore(-1);
+            engine.create(Source.class, PrimitiveTarget.class, true).copy(source(), target, CONVERTER);
+            assertEquals(0, target.getScore(), engine.name());
+        }
+    }
+
+    public static class Base {
+        private long id;
+        private String creator;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getCreator() {
+            return creator;
+        }
+
+        public void setCreator(String creator) {
+            this.creator = creator;
+        }
+
+        public String getCreatorId() {
+            return String.valueOf(id);
+        }
+    }
+
+    public static class Source extends Base {
+        private String name;
+        private int age;
+        private boolean active;
+        private Integer score;
+        private long count;
+        private Integer boxedAge;
+        private double ratio;
+        private List<String> tags;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public Integer getScore() {
+            return score;
+        }
+
+        public void setScore(Integer score) {
+            this.score = score;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+        public Integer getBoxedAge() {
+            return boxedAge;
+        }
+
+        public void setBoxedAge(Integer boxedAge) {
+            this.boxedAge = boxedAge;
+        }
+
+        public double getRatio() {
+            return ratio;
+        }
+
+        public void setRatio(double ratio) {
+            this.ratio = ratio;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+
+    public static class Target extends Base {
+        private String name;
+        private int age;
+        private boolean active;
+        private Integer score;
+        private int count;
+        private int boxedAge;
+        private String ratio;
+        private List<String> tags;
+        private String creatorId;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public Integer getScore() {
+            return score;
+        }
+
+        public void setScore(Integer score) {
+            this.score = score;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public int getBoxedAge() {
+            return boxedAge;
+        }
+
+        public void setBoxedAge(int boxedAge) {
+            this.boxedAge = boxedAge;
+        }
+
+        public String getRatio() {
+            return ratio;
+        }
+
+        public void setRatio(String ratio) {
+            this.ratio = ratio;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        @Override
+        public String getCreatorId() {
+            return creatorId;
+        }
+
+        public void setCreatorId(String creatorId) {
+            this.creatorId = creatorId;
+        }
+    }
+
+    public static class PrimitiveTarget {
+        private int score;
+
+        public int getScore() {
+            return score;
+        }
+
+        public void setScore(int score) {
+            this.score = score;
+        }
+    }
+}
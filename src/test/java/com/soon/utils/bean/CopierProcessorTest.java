@@ -0,0 +1,155 @@
+package com.soon.utils.bean;
+
+import com.soon.utils.BeanCopierUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * 编译期生成拷贝器：生成的代码、服务文件的增量合并、按类加载器查找
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class CopierProcessorTest {
+    private static final String DTO = "package demo;\n"
+            + "public class Dto {\n"
+            + "    private String name; private int age; private Integer score; private long id;\n"
+            + "    public String getName() { return name; } public void setName(String name) { this.name = name; }\n"
+            + "    public int getAge() { return age; } public void setAge(int age) { this.age = age; }\n"
+            + "    public Integer getScore() { return score; } public void setScore(Integer score) { this.score = score; }\n"
+            + "    public long getId() { return id; } public void setId(long id) { this.id = id; }\n"
+            + "}\n";
+    private static final String ENTITY = "package demo;\n"
+            + "public class Entity {\n"
+            + "    private String name; private int age; private Integer score; private int id;\n"
+            + "    public String getName() { return name; } public void setName(String name) { this.name = name; }\n"
+            + "    public int getAge() { return age; } public void setAge(int age) { this.age = age; }\n"
+            + "    public Integer getScore() { return score; } public void setScore(Integer score) { this.score = score; }\n"
+            + "    public int getId() { return id; } public void setId(int id) { this.id = id; }\n"
+            + "}\n";
+    private static final String OTHER = "package demo;\n"
+            + "public class Other {\n"
+            + "    private String name;\n"
+            + "    public String getName() { return name; } public void setName(String name) { this.name = name; }\n"
+            + "}\n";
+    private static final String COPIERS = "package demo;\n"
+            + "@com.soon.utils.bean.GenerateCopier(source = Dto.class, target = Entity.class)\n"
+            + "class Copiers {}\n";
+    private static final String MORE_COPIERS = "package demo;\n"
+            + "@com.soon.utils.bean.GenerateCopier(source = Dto.class, target = Other.class)\n"
+            + "class MoreCopiers {}\n";
+    private static final String SERVICE_FILE = "META-INF/services/" + PregeneratedCopier.class.getName();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void generatedCopierMatchesRuntimeRules() throws Exception {
+        Path output = compile("app", file("Dto", DTO), file("Entity", ENTITY), file("Copiers", COPIERS));
+        try (URLClassLoader loader = loader(output)) {
+            Class<?> dtoClass = loader.loadClass("demo.Dto");
+            Class<?> entityClass = loader.loadClass("demo.Entity");
+            Copier copier = PregeneratedCopiers.find(dtoClass, entityClass);
+            assertNotNull(copier);
+            assertEquals("demo.DtoToEntityCopier", copier.getClass().getName());
+            assertSame(copier, BeanCopierUtils.getCopier(dtoClass, entityClass, false, CopierEngine.CGLIB));
+            assertEquals(1, PregeneratedCopiers.size(loader));
+
+            Object dto = dtoClass.getConstructor().newInstance();
+            dtoClass.getMethod("setName", String.class).invoke(dto, "soon");
+            dtoClass.getMethod("setAge", int.class).invoke(dto, 18);
+            dtoClass.getMethod("setScore", Integer.class).invoke(dto, 90);
+            dtoClass.getMethod("setId", long.class).invoke(dto, 7L);
+            Object generated = entityClass.getConstructor().newInstance();
+            copier.copy(dto, generated, null);
+            Object cglib = entityClass.getConstructor().newInstance();
+            CopierEngine.CGLIB.create(dtoClass, entityClass, false).copy(dto, cglib, null);
+            for (String getter : new String[]{"getName", "getAge", "getScore", "getId"}) {
+                assertEquals(entityClass.getMethod(getter).invoke(cglib), entityClass.getMethod(getter).invoke(generated),
+                        getter);
+            }
+            // long与int类型不同，和BeanCopier一样不拷贝
+            assertEquals(0, entityClass.getMethod("getId").invoke(generated));
+        }
+    }
+
+    @Test
+    void incrementalCompilationKeepsEarlierEntries() throws Exception {
+        Path output = compile("app", file("Dto", DTO), file("Entity", ENTITY), file("Copiers", COPIERS));
+        // 增量编译只处理新增的类
+        compile("app", file("Other", OTHER), file("MoreCopiers", MORE_COPIERS));
+        List<String> lines = Files.readAllLines(output.resolve(SERVICE_FILE), StandardCharsets.UTF_8);
+        assertEquals(Arrays.asList("demo.DtoToEntityCopier", "demo.DtoToOtherCopier"), lines);
+        try (URLClassLoader loader = loader(output)) {
+            Class<?> dtoClass = loader.loadClass("demo.Dto");
+            assertNotNull(PregeneratedCopiers.find(dtoClass, loader.loadClass("demo.Entity")));
+            assertNotNull(PregeneratedCopiers.find(dtoClass, loader.loadClass("demo.Other")));
+        }
+    }
+
+    @Test
+    void eachClassLoaderSeesItsOwnCopiers() throws Exception {
+        Path first = compile("first", file("Dto", DTO), file("Entity", ENTITY), file("Copiers", COPIERS));
+        Path second = compile("second", file("Dto", DTO), file("Entity", ENTITY), file("Copiers", COPIERS));
+        Path plain = compile("plain", file("Dto", DTO), file("Entity", ENTITY));
+        try (URLClassLoader firstLoader = loader(first); URLClassLoader secondLoader = loader(second);
+             URLClassLoader plainLoader = loader(plain)) {
+            Copier firstCopier = PregeneratedCopiers.find(firstLoader.loadClass("demo.Dto"),
+                    firstLoader.loadClass("demo.Entity"));
+            Copier secondCopier = PregeneratedCopiers.find(secondLoader.loadClass("demo.Dto"),
+                    secondLoader.loadClass("demo.Entity"));
+            assertSame(firstLoader, firstCopier.getClass().getClassLoader());
+            assertSame(secondLoader, secondCopier.getClass().getClassLoader());
+            assertNotSame(firstCopier, secondCopier);
+            assertNull(PregeneratedCopiers.find(plainLoader.loadClass("demo.Dto"), plainLoader.loadClass("demo.Entity")));
+        }
+    }
+
+    private Path file(String name, String content) throws IOException {
+        Path sources = directory.resolve("src").resolve(name + "-" + System.nanoTime());
+        Files.createDirectories(sources);
+        Path file = sources.resolve(name + ".java");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private Path compile(String name, Path... files) throws IOException {
+        Path output = directory.resolve(name);
+        Files.createDirectories(output);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> arguments = new ArrayList<>(Arrays.asList("-d", output.toString(),
+                "-classpath", System.getProperty("java.class.path") + File.pathSeparator + output,
+                "-processor", CopierProcessor.class.getName(), "-encoding", "UTF-8"));
+        for (Path file : files) {
+            arguments.add(file.toString());
+        }
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        int status = compiler.run(null, null, errors, arguments.toArray(new String[0]));
+        assertEquals(0, status, errors.toString());
+        return output;
+    }
+
+    private static URLClassLoader loader(Path output) throws IOException {
+        return new URLClassLoader(new URL[]{output.toUri().toURL()}, CopierProcessorTest.class.getClassLoader());
+    }
+}
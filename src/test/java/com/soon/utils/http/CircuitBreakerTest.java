@@ -0,0 +1,82 @@
+package com.soon.utils.http;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 熔断器的状态转换与探测请求
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class CircuitBreakerTest {
+    private static CircuitBreaker create() {
+        HostPolicy policy = new HostPolicy();
+        policy.setMinimumCalls(4);
+        policy.setFailureRateThreshold(50);
+        policy.setOpenMillis(50L);
+        return new CircuitBreaker(policy);
+    }
+
+    private static void open(CircuitBreaker breaker) {
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(breaker.tryAcquire());
+        }
+        assertTrue(breaker.isOpen());
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        CircuitBreaker breaker = create();
+        breaker.onSuccess(breaker.tryAcquire());
+        breaker.onSuccess(breaker.tryAcquire());
+        breaker.onFailure(breaker.tryAcquire());
+        assertFalse(breaker.isOpen());
+        breaker.onFailure(breaker.tryAcquire());
+        assertTrue(breaker.isOpen());
+        assertEquals(CircuitBreaker.Permit.REJECTED, breaker.tryAcquire());
+    }
+
+    @Test
+    void onlyProbeLeavesHalfOpen() throws InterruptedException {
+        CircuitBreaker breaker = create();
+        // 熔断前放行的请求
+        CircuitBreaker.Permit inFlight = breaker.tryAcquire();
+        open(breaker);
+        Thread.sleep(60L);
+
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+        assertEquals(CircuitBreaker.Permit.PROBE, probe);
+        assertEquals(CircuitBreaker.Permit.REJECTED, breaker.tryAcquire());
+
+        // 熔断前放行的请求返回，不能结束半开状态
+        breaker.onSuccess(inFlight);
+        assertTrue(breaker.isOpen());
+        assertEquals(CircuitBreaker.Permit.REJECTED, breaker.tryAcquire());
+
+        breaker.onSuccess(probe);
+        assertFalse(breaker.isOpen());
+        assertEquals(CircuitBreaker.Permit.NORMAL, breaker.tryAcquire());
+    }
+
+    @Test
+    void failedProbeReopens() throws InterruptedException {
+        CircuitBreaker breaker = create();
+        CircuitBreaker.Permit inFlight = breaker.tryAcquire();
+        open(breaker);
+        Thread.sleep(60L);
+
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+        assertEquals(CircuitBreaker.Permit.PROBE, probe);
+        breaker.onFailure(inFlight);
+        breaker.onFailure(probe);
+        assertTrue(breaker.isOpen());
+        assertEquals(CircuitBreaker.Permit.REJECTED, breaker.tryAcquire());
+
+        Thread.sleep(60L);
+        assertEquals(CircuitBreaker.Permit.PROBE, breaker.tryAcquire());
+    }
+}
@@ -0,0 +1,155 @@
+package com.soon.utils.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 响应缓存：max-age过期、304重新验证、no-store、并发请求合并、容量淘汰
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class HttpResponseCacheTest {
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final AtomicInteger requests = new AtomicInteger();
+    private TestServer server;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = TestServer.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void servesFreshEntryUntilMaxAgeExpires() throws InterruptedException {
+        server.handle("/fresh", exchange -> {
+            exchange.getResponseHeaders().set("Cache-Control", "max-age=1");
+            TestServer.respond(exchange, 200, "v" + requests.incrementAndGet());
+        });
+        HttpResponseCache cache = HttpResponseCache.create(10);
+        assertEquals("v1", cache.get(restTemplate, server.uri("/fresh"), String.class));
+        assertEquals("v1", cache.get(restTemplate, server.uri("/fresh"), String.class));
+        assertEquals(1, cache.getHitCount());
+        Thread.sleep(1100L);
+        assertEquals("v2", cache.get(restTemplate, server.uri("/fresh"), String.class));
+        assertEquals(2, requests.get());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void revalidatesWithIfNoneMatch() {
+        List<String> conditions = new ArrayList<>();
+        server.handle("/etag", exchange -> {
+            requests.incrementAndGet();
+            String condition = exchange.getRequestHeaders().getFirst("If-None-Match");
+            conditions.add(String.valueOf(condition));
+            exchange.getResponseHeaders().set("ETag", "\"v1\"");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            if ("\"v1\"".equals(condition)) {
+                TestServer.respond(exchange, 304, null);
+            } else {
+                TestServer.respond(exchange, 200, "body");
+            }
+        });
+        HttpResponseCache cache = HttpResponseCache.create(10);
+        assertEquals("body", cache.get(restTemplate, server.uri("/etag"), String.class));
+        assertEquals("body", cache.get(restTemplate, server.uri("/etag"), String.class));
+        assertEquals("body", cache.get(restTemplate, server.uri("/etag"), String.class));
+        assertEquals(3, requests.get());
+        assertEquals("[null, \"v1\", \"v1\"]", conditions.toString());
+        assertEquals(2, cache.getRevalidatedCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void noStoreIsNeverCached() {
+        server.handle("/private", exchange -> {
+            exchange.getResponseHeaders().set("Cache-Control", "max-age=60, no-store");
+            exchange.getResponseHeaders().set("ETag", "\"v1\"");
+            TestServer.respond(exchange, 200, "v" + requests.incrementAndGet());
+        });
+        HttpResponseCache cache = HttpResponseCache.create(10);
+        assertEquals("v1", cache.get(restTemplate, server.uri("/private"), String.class));
+        assertEquals("v2", cache.get(restTemplate, server.uri("/private"), String.class));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    void coalescesConcurrentRequests() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        server.handle("/slow", exchange -> {
+            requests.incrementAndGet();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            TestServer.respond(exchange, 200, "slow");
+        });
+        HttpResponseCache cache = HttpResponseCache.create(10);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> cache.get(restTemplate, server.uri("/slow"), String.class)));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (cache.getCoalescedCount() < 7 && System.nanoTime() < deadline) {
+                Thread.sleep(5L);
+            }
+            release.countDown();
+            for (Future<String> future : futures) {
+                assertEquals("slow", future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, requests.get());
+        assertEquals(7, cache.getCoalescedCount());
+        // 没有缓存头，结果不缓存
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void evictsLeastRecentlyAccessed() throws InterruptedException {
+        server.handle("/item", exchange -> {
+            exchange.getResponseHeaders().set("Cache-Control", "max-age=60");
+            requests.incrementAndGet();
+            TestServer.respond(exchange, 200, exchange.getRequestURI().getQuery());
+        });
+        HttpResponseCache cache = HttpResponseCache.create(2);
+        cache.get(restTemplate, server.uri("/item?a"), String.class);
+        Thread.sleep(5L);
+        cache.get(restTemplate, server.uri("/item?b"), String.class);
+        Thread.sleep(5L);
+        cache.get(restTemplate, server.uri("/item?a"), String.class);
+        Thread.sleep(5L);
+        cache.get(restTemplate, server.uri("/item?c"), String.class);
+        assertEquals(2, cache.size());
+        assertEquals(3, requests.get());
+
+        assertEquals("a", cache.get(restTemplate, server.uri("/item?a"), String.class));
+        assertEquals("c", cache.get(restTemplate, server.uri("/item?c"), String.class));
+        assertEquals(3, requests.get());
+        assertEquals("b", cache.get(restTemplate, server.uri("/item?b"), String.class));
+        assertEquals(4, requests.get());
+    }
+}
@@ -0,0 +1,232 @@
+package com.soon.utils.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * RequestUtils的共享客户端与批量请求：顺序、合并、截止时间、响应缓存，异步请求出错时结果为null
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class RequestUtilsTest {
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private TestServer server;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        // 路径为 /item/{id}，查询参数delay为响应前等待的毫秒数
+        server = TestServer.start().handle("/item", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            hits.computeIfAbsent(path, k -> new AtomicInteger()).incrementAndGet();
+            String query = exchange.getRequestURI().getQuery();
+            if (query != null && query.startsWith("delay=")) {
+                try {
+                    Thread.sleep(Long.parseLong(query.substring("delay=".length())));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            exchange.getResponseHeaders().set("Cache-Control", "max-age=60");
+            TestServer.respond(exchange, 200, path.substring("/item/".length()));
+        }).handle("/status", exchange -> {
+            // 路径为 /status/{code}，按指定的状态码返回请求体
+            int status = Integer.parseInt(exchange.getRequestURI().getPath().substring("/status/".length()));
+            String body = read(exchange.getRequestBody());
+            TestServer.respond(exchange, status, body.isEmpty() ? "ok" : body);
+        });
+    }
+
+    private static String read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 已关闭的本地端口，连接会被拒绝
+     */
+    private static String refusedUrl() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return "http://127.0.0.1:" + socket.getLocalPort() + "/status/200";
+        }
+    }
+
+    private static <T> T completedValue(CompletableFuture<T> future) throws Exception {
+        T value = future.get(10, TimeUnit.SECONDS);
+        // 出错时正常完成，结果为null，不会以异常结束
+        assertFalse(future.isCompletedExceptionally());
+        return value;
+    }
+
+    @AfterEach
+    void stopServer() {
+        RequestUtils.setResponseCache(null);
+        server.close();
+        executor.shutdownNow();
+    }
+
+    private String url(String id, long delayMillis) {
+        return server.uri("/item/" + id + (delayMillis > 0 ? "?delay=" + delayMillis : "")).toString();
+    }
+
+    private int hits(String id) {
+        AtomicInteger count = hits.get("/item/" + id);
+        return count == null ? 0 : count.get();
+    }
+
+    @Test
+    void keepAlivePoolFollowsPerHostLimit() {
+        assertNotNull(RequestUtils.getSharedRestTemplate());
+        assertEquals(Integer.toString(new HttpClientOptions().getMaxConnectionsPerHost()),
+                System.getProperty("http.maxConnections"));
+    }
+
+    @Test
+    void batchResultsFollowInputOrder() {
+        List<String> urls = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            // 靠前的请求更慢，完成顺序与输入顺序相反
+            urls.add(url(Integer.toString(i), (12 - i) * 10L));
+            expected.add(Integer.toString(i));
+        }
+        List<BatchResult<String>> results = RequestUtils.getForObjectBatch(urls, String.class, 6, 0L, true, executor);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            assertTrue(results.get(i).isSuccess());
+            assertEquals(urls.get(i), results.get(i).getUrl());
+            values.add(results.get(i).getValue());
+        }
+        assertEquals(expected, values);
+    }
+
+    @Test
+    void batchCoalescesDuplicateUrls() {
+        List<String> urls = Arrays.asList(url("a", 0L), url("b", 0L), url("a", 0L), url("a", 0L));
+        List<BatchResult<String>> results = RequestUtils.getForObjectBatch(urls, String.class, 4, 0L, true, executor);
+        assertEquals(Arrays.asList("a", "b", "a", "a"), values(results));
+        assertEquals(1, hits("a"));
+
+        RequestUtils.getForObjectBatch(urls, String.class, 4, 0L, false, executor);
+        assertEquals(4, hits("a"));
+        assertEquals(2, hits("b"));
+    }
+
+    @Test
+    void batchStopsAtDeadline() {
+        List<String> urls = Arrays.asList(url("slow", 2000L), url("never1", 0L), url("never2", 0L));
+        long start = System.nanoTime();
+        List<BatchResult<String>> results = RequestUtils.getForObjectBatch(urls, String.class, 1, 300L, true, executor);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1500L);
+        for (BatchResult<String> result : results) {
+            assertFalse(result.isSuccess());
+            assertTrue(result.isTimedOut());
+            assertEquals(TimeoutException.class, result.getError().getClass());
+            assertNull(result.getValue());
+        }
+        // 慢请求结束后，空闲的工作线程不再发出剩余的请求
+        try {
+            Thread.sleep(2200L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        assertEquals(1, hits("slow"));
+        assertEquals(0, hits("never1"));
+        assertEquals(0, hits("never2"));
+    }
+
+    @Test
+    void batchUsesResponseCache() {
+        RequestUtils.setResponseCache(HttpResponseCache.create(100));
+        assertEquals("x", RequestUtils.getForObject(url("x", 0L), String.class));
+        List<String> urls = Arrays.asList(url("x", 0L), url("y", 0L));
+        assertEquals(Arrays.asList("x", "y"), values(RequestUtils.getForObjectBatch(urls, String.class, 2, 0L, true, executor)));
+        assertEquals(Arrays.asList("x", "y"), values(RequestUtils.getForObjectBatch(urls, String.class, 2, 0L, true, executor)));
+        assertEquals(1, hits("x"));
+        assertEquals(1, hits("y"));
+        assertEquals(3, RequestUtils.getResponseCache().getHitCount());
+    }
+
+    @Test
+    void getForObjectAsyncCompletesWithNullOnError() throws Exception {
+        assertEquals("ok", completedValue(RequestUtils.getForObjectAsync(server.uri("/status/200").toString(),
+                String.class, executor)));
+        assertNull(completedValue(RequestUtils.getForObjectAsync(server.uri("/status/500").toString(),
+                String.class, executor)));
+        assertNull(completedValue(RequestUtils.getForObjectAsync(server.uri("/status/404").toString(),
+                String.class)));
+        assertNull(completedValue(RequestUtils.getForObjectAsync(refusedUrl(), String.class, executor)));
+        // 参数错误在调用时直接抛出，不会进入异步结果
+        assertThrows(IllegalArgumentException.class, () -> RequestUtils.getForObjectAsync(" ", String.class));
+    }
+
+    @Test
+    void postForObjectAsyncCompletesWithNullOnError() throws Exception {
+        assertEquals("hello", completedValue(RequestUtils.postForObjectAsync(server.uri("/status/200").toString(),
+                "hello", String.class, executor)));
+        assertNull(completedValue(RequestUtils.postForObjectAsync(server.uri("/status/503").toString(),
+                "hello", String.class, executor)));
+        assertNull(completedValue(RequestUtils.postForObjectAsync(refusedUrl(), "hello", String.class)));
+        assertThrows(IllegalArgumentException.class,
+                () -> RequestUtils.postForObjectAsync(server.uri("/status/200").toString(), "hello", null));
+    }
+
+    @Test
+    void exchangeAsyncCompletesWithNullOnErrorOrNonOkStatus() throws Exception {
+        ParameterizedTypeReference<String> type = new ParameterizedTypeReference<String>() {
+        };
+        assertEquals("hello", completedValue(RequestUtils.exchangeAsync(executor, server.uri("/status/200").toString(),
+                HttpMethod.PUT, new HttpEntity<>("hello"), type)));
+        // 2xx但不是200时同样为null
+        assertNull(completedValue(RequestUtils.exchangeAsync(executor, server.uri("/status/202").toString(),
+                HttpMethod.PUT, new HttpEntity<>("hello"), type)));
+        assertNull(completedValue(RequestUtils.exchangeAsync(executor, server.uri("/status/") + "{code}",
+                HttpMethod.GET, null, type, 500)));
+        assertNull(completedValue(RequestUtils.exchangeAsync(refusedUrl(), HttpMethod.GET, null, type)));
+        assertThrows(IllegalArgumentException.class,
+                () -> RequestUtils.exchangeAsync(executor, server.uri("/status/200").toString(), null, null, type));
+    }
+
+    private static List<String> values(List<BatchResult<String>> results) {
+        List<String> values = new ArrayList<>(results.size());
+        for (BatchResult<String> result : results) {
+            values.add(result.getValue());
+        }
+        return Collections.unmodifiableList(values);
+    }
+}
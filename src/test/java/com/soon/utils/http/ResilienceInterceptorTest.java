@@ -0,0 +1,235 @@
+package com.soon.utils.http;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 重试与熔断拦截器，使用桩实现的ClientHttpRequestExecution按顺序返回结果
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class ResilienceInterceptorTest {
+    private static final String HOST = "api.example.com";
+
+    private static HostPolicy retrying(int maxRetries) {
+        HostPolicy policy = new HostPolicy();
+        policy.setMaxRetries(maxRetries);
+        policy.setBackoffMillis(0L);
+        return policy;
+    }
+
+    @Test
+    void defaultPolicyNeitherRetriesNorBreaks() throws IOException {
+        ResilienceInterceptor interceptor = new ResilienceInterceptor();
+        for (int i = 0; i < 50; i++) {
+            StubExecution execution = new StubExecution(new ConnectException("Connection refused"));
+            assertThrows(ConnectException.class, () -> interceptor.intercept(request(HttpMethod.GET), new byte[0], execution));
+            assertEquals(1, execution.calls);
+        }
+        assertFalse(interceptor.isCircuitOpen(HOST));
+        StubExecution execution = new StubExecution(503);
+        try (ClientHttpResponse response = interceptor.intercept(request(HttpMethod.PUT), new byte[0], execution)) {
+            assertEquals(503, response.getRawStatusCode());
+        }
+        assertEquals(1, execution.calls);
+    }
+
+    @Test
+    void retriesOnlyConnectPhaseFailures() throws IOException {
+        ResilienceInterceptor interceptor = new ResilienceInterceptor();
+        interceptor.setPolicy(HOST, retrying(2));
+        for (IOException retryable : Arrays.asList(new ConnectException("Connection refused"),
+                new UnknownHostException(HOST), new SocketTimeoutException("connect timed out"),
+                new SocketTimeoutException("Connect timed out"))) {
+            StubExecution execution = new StubExecution(retryable, retryable, 200);
+            try (ClientHttpResponse response = interceptor.intercept(request(HttpMethod.GET), new byte[0], execution)) {
+                assertEquals(200, response.getRawStatusCode());
+            }
+            assertEquals(3, execution.calls, retryable.toString());
+        }
+        for (IOException sent : Arrays.asList(new SocketException("Connection reset"),
+                new IOException("Unexpected end of file from server"), new SocketTimeoutException("Read timed out"))) {
+            StubExecution execution = new StubExecution(sent, 200);
+            assertThrows(IOException.class, () -> interceptor.intercept(request(HttpMethod.PUT), new byte[0], execution));
+            assertEquals(1, execution.calls, sent.toString());
+        }
+    }
+
+    @Test
+    void retriesGatewayErrorsOnlyForIdempotentMethods() throws IOException {
+        ResilienceInterceptor interceptor = new ResilienceInterceptor();
+        interceptor.setPolicy(HOST, retrying(2));
+        StubExecution put = new StubExecution(502, 503, 200);
+        try (ClientHttpResponse response = interceptor.intercept(request(HttpMethod.PUT), new byte[0], put)) {
+            assertEquals(200, response.getRawStatusCode());
+            // 重试前关闭了前两次的响应
+            assertEquals(2, put.closed);
+        }
+        assertEquals(3, put.calls);
+
+        StubExecution post = new StubExecution(503, 200);
+        try (ClientHttpResponse response = interceptor.intercept(request(HttpMethod.POST), new byte[0], post)) {
+            assertEquals(503, response.getRawStatusCode());
+        }
+        assertEquals(1, post.calls);
+
+        StubExecution exhausted = new StubExecution(503, 503, 503, 200);
+        try (ClientHttpResponse response = interceptor.intercept(request(HttpMethod.GET), new byte[0], exhausted)) {
+            assertEquals(503, response.getRawStatusCode());
+        }
+        assertEquals(3, exhausted.calls);
+    }
+
+    @Test
+    void breakerCountsOneOutcomePerCall() throws IOException {
+        ResilienceInterceptor interceptor = new ResilienceInterceptor();
+        HostPolicy policy = retrying(2);
+        policy.setCircuitBreakerEnabled(true);
+        policy.setMinimumCalls(2);
+        policy.setFailureRateThreshold(100);
+        interceptor.setPolicy(HOST, policy);
+
+        StubExecution first = new StubExecution(503, 503, 503);
+        interceptor.intercept(request(HttpMethod.GET), new byte[0], first).close();
+        assertEquals(3, first.calls);
+        // 三次尝试只算一次失败，未达到最小请求数
+        assertFalse(interceptor.isCircuitOpen(HOST));
+
+        StubExecution second = new StubExecution(new ConnectException("Connection refused"),
+                new ConnectException("Connection refused"), new ConnectException("Connection refused"));
+        assertThrows(ConnectException.class, () -> interceptor.intercept(request(HttpMethod.GET), new byte[0], second));
+        assertTrue(interceptor.isCircuitOpen(HOST));
+
+        StubExecution rejected = new StubExecution(200);
+        assertThrows(HttpException.class, () -> interceptor.intercept(request(HttpMethod.GET), new byte[0], rejected));
+        assertEquals(0, rejected.calls);
+    }
+
+    @Test
+    void probeIsNotRetried() throws Exception {
+        ResilienceInterceptor interceptor = new ResilienceInterceptor();
+        HostPolicy policy = retrying(2);
+        policy.setCircuitBreakerEnabled(true);
+        policy.setMinimumCalls(1);
+        policy.setOpenMillis(50L);
+        interceptor.setPolicy(HOST, policy);
+        interceptor.intercept(request(HttpMethod.GET), new byte[0], new StubExecution(503, 503, 503)).close();
+        assertTrue(interceptor.isCircuitOpen(HOST));
+        Thread.sleep(60L);
+
+        StubExecution probe = new StubExecution(503, 200);
+        interceptor.intercept(request(HttpMethod.GET), new byte[0], probe).close();
+        assertEquals(1, probe.calls);
+        assertTrue(interceptor.isCircuitOpen(HOST));
+        Thread.sleep(60L);
+
+        StubExecution recovered = new StubExecution(200);
+        interceptor.intercept(request(HttpMethod.GET), new byte[0], recovered).close();
+        assertFalse(interceptor.isCircuitOpen(HOST));
+    }
+
+    private static HttpRequest request(HttpMethod method) {
+        return new HttpRequest() {
+            private final HttpHeaders headers = new HttpHeaders();
+
+            @Override
+            public String getMethodValue() {
+                return method.name();
+            }
+
+            @Override
+            public URI getURI() {
+                return URI.create("http://" + HOST + "/items/1");
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+    }
+
+    /**
+     * 依次返回给定的结果：Integer为响应状态码，IOException为抛出的异常
+     */
+    private static final class StubExecution implements ClientHttpRequestExecution {
+        private final Deque<Object> outcomes;
+        private int calls;
+        private int closed;
+
+        private StubExecution(Object... outcomes) {
+            this.outcomes = new ArrayDeque<>(Arrays.asList(outcomes));
+        }
+
+        @Override
+        public ClientHttpResponse execute(HttpRequest request, byte[] body) throws IOException {
+            calls++;
+            Object outcome = outcomes.poll();
+            if (outcome instanceof IOException) {
+                throw (IOException) outcome;
+            }
+            return new StubResponse((Integer) outcome);
+        }
+
+        private final class StubResponse implements ClientHttpResponse {
+            private final int status;
+
+            private StubResponse(int status) {
+                this.status = status;
+            }
+
+            @Override
+            public HttpStatus getStatusCode() {
+                return HttpStatus.valueOf(status);
+            }
+
+            @Override
+            public int getRawStatusCode() {
+                return status;
+            }
+
+            @Override
+            public String getStatusText() {
+                return getStatusCode().getReasonPhrase();
+            }
+
+            @Override
+            public void close() {
+                closed++;
+            }
+
+            @Override
+            public InputStream getBody() {
+                return new ByteArrayInputStream(new byte[0]);
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return new HttpHeaders();
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.soon.utils.uid;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 文件号段存储与号段ID分配器
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class FileSegmentStoreTest {
+    private static final int THREADS = 8;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void leasesAreContiguousAndPersisted() throws IOException {
+        FileSegmentStore store = FileSegmentStore.create(directory, 100L);
+        assertEquals(100L, store.lease("order", 10));
+        assertEquals(110L, store.lease("order", 5));
+        assertEquals(100L, store.lease("payment", 1));
+
+        // 重新创建（相当于进程重启）后从上次的位置继续
+        FileSegmentStore reopened = FileSegmentStore.create(directory.resolve(".").resolve("sub").getParent());
+        assertEquals(115L, reopened.lease("order", 10));
+        assertEquals("125", new String(Files.readAllBytes(directory.resolve("order.segment")), StandardCharsets.US_ASCII));
+        assertFalse(Files.exists(directory.resolve("order.segment.tmp")));
+    }
+
+    @Test
+    void storesOnSameDirectoryDoNotOverlap() throws Exception {
+        FileSegmentStore first = FileSegmentStore.create(directory);
+        FileSegmentStore second = FileSegmentStore.create(directory);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                FileSegmentStore store = t % 2 == 0 ? first : second;
+                futures.add(executor.submit(() -> {
+                    long[] starts = new long[50];
+                    start.await();
+                    for (int i = 0; i < starts.length; i++) {
+                        starts[i] = store.lease("order", 10);
+                    }
+                    return starts;
+                }));
+            }
+            start.countDown();
+            long[] all = new long[THREADS * 50];
+            for (int t = 0; t < THREADS; t++) {
+                System.arraycopy(futures.get(t).get(60, TimeUnit.SECONDS), 0, all, t * 50, 50);
+            }
+            Arrays.sort(all);
+            for (int i = 0; i < all.length; i++) {
+                assertEquals(1L + i * 10L, all[i]);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void leftoverTempFileIsIgnored() throws IOException {
+        FileSegmentStore store = FileSegmentStore.create(directory);
+        assertEquals(1L, store.lease("order", 10));
+        // 模拟写入临时文件后、替换前崩溃
+        Files.write(directory.resolve("order.segment.tmp"), "99".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(11L, store.lease("order", 10));
+    }
+
+    @Test
+    void invalidContentAndArguments() throws IOException {
+        FileSegmentStore store = FileSegmentStore.create(directory);
+        Files.write(directory.resolve("broken.segment"), new byte[0]);
+        assertThrows(IOException.class, () -> store.lease("broken", 10));
+        assertThrows(IllegalArgumentException.class, () -> store.lease("../order", 10));
+        assertThrows(IllegalArgumentException.class, () -> store.lease("order", 0));
+    }
+
+    @Test
+    void allocatorIdsAreUniqueAcrossThreadsAndAllocators() throws Exception {
+        // 预取使用单独的线程池，结束时等待预取完成，避免清理临时目录时仍在写入
+        ExecutorService prefetch = Executors.newSingleThreadExecutor();
+        SegmentIdAllocator first = SegmentIdAllocator.create(FileSegmentStore.create(directory), "order", 100,
+                SegmentIdAllocator.DEFAULT_PREFETCH_RATIO, prefetch);
+        SegmentIdAllocator second = SegmentIdAllocator.create(FileSegmentStore.create(directory), "order", 100,
+                SegmentIdAllocator.DEFAULT_PREFETCH_RATIO, prefetch);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        int perThread = 20_000;
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                SegmentIdAllocator allocator = t % 2 == 0 ? first : second;
+                futures.add(executor.submit(() -> {
+                    long[] ids = new long[perThread];
+                    start.await();
+                    for (int i = 0; i < ids.length; i++) {
+                        ids[i] = allocator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+            long[] all = new long[THREADS * perThread];
+            for (int t = 0; t < THREADS; t++) {
+                long[] ids = futures.get(t).get(60, TimeUnit.SECONDS);
+                for (int i = 1; i < ids.length; i++) {
+                    assertTrue(ids[i] > ids[i - 1], "同一线程内ID必须递增");
+                }
+                System.arraycopy(ids, 0, all, t * perThread, perThread);
+            }
+            Arrays.sort(all);
+            for (int i = 1; i < all.length; i++) {
+                assertTrue(all[i] != all[i - 1], "ID重复：" + all[i]);
+            }
+        } finally {
+            executor.shutdownNow();
+            prefetch.shutdown();
+            assertTrue(prefetch.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+}
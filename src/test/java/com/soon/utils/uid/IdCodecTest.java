@@ -0,0 +1,182 @@
+package com.soon.utils.uid;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * ID编码：与BigInteger逐位计算的结果一致、往返解码、按无符号数排序，Crockford的别名字符与溢出检查
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class IdCodecTest {
+    private static final BigInteger TWO_64 = BigInteger.ONE.shiftLeft(64);
+    private static final long[] EXTREMES = {0L, 1L, 61L, 62L, 31L, 32L, Long.MAX_VALUE, Long.MIN_VALUE, -1L, -2L,
+            0xFFFFFFFFL, 0x1_0000_0000L};
+
+    private static BigInteger unsigned(long value) {
+        return value >= 0 ? BigInteger.valueOf(value) : BigInteger.valueOf(value).add(TWO_64);
+    }
+
+    private static BigInteger unsigned(long mostSigBits, long leastSigBits) {
+        return unsigned(mostSigBits).shiftLeft(64).or(unsigned(leastSigBits));
+    }
+
+    /**
+     * 逐位取余的参考实现
+     */
+    private static String reference(IdCodec codec, BigInteger value, int length) {
+        BigInteger radix = BigInteger.valueOf(codec.alphabet.length);
+        char[] buf = new char[length];
+        for (int i = length - 1; i >= 0; i--) {
+            BigInteger[] divided = value.divideAndRemainder(radix);
+            buf[i] = codec.alphabet[divided[1].intValue()];
+            value = divided[0];
+        }
+        assertEquals(BigInteger.ZERO, value);
+        return new String(buf);
+    }
+
+    private static long[] ids() {
+        Random random = new Random(41L);
+        long[] ids = Arrays.copyOf(EXTREMES, EXTREMES.length + 2000);
+        for (int i = EXTREMES.length; i < ids.length; i++) {
+            // 覆盖不同的位数
+            ids[i] = random.nextLong() >>> random.nextInt(64);
+        }
+        return ids;
+    }
+
+    private static UUID[] uuids() {
+        Random random = new Random(43L);
+        List<UUID> uuids = new ArrayList<>(Arrays.asList(new UUID(0L, 0L), new UUID(0L, 1L), new UUID(0L, -1L),
+                new UUID(1L, 0L), new UUID(-1L, -1L), new UUID(-1L, -2L), new UUID(Long.MIN_VALUE, 0L),
+                new UUID(Long.MAX_VALUE, -1L), UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff")));
+        for (int i = 0; i < 2000; i++) {
+            uuids.add(new UUID(random.nextLong() >>> random.nextInt(64), random.nextLong()));
+        }
+        return uuids.toArray(new UUID[0]);
+    }
+
+    @Test
+    void longsMatchReferenceAndRoundTrip() {
+        for (IdCodec codec : IdCodec.values()) {
+            for (long id : ids()) {
+                String text = codec.encode(id);
+                assertEquals(reference(codec, unsigned(id), codec.getLength64()), text, codec + " " + id);
+                assertEquals(id, codec.decodeLong(text), codec + " " + text);
+            }
+        }
+        assertEquals("LygHa16AHYF", IdCodec.BASE62.encode(-1L));
+        assertEquals("00000000000", IdCodec.BASE62.encode(0L));
+        assertEquals("FZZZZZZZZZZZZ", IdCodec.CROCKFORD32.encode(-1L));
+    }
+
+    @Test
+    void uuidsMatchReferenceAndRoundTrip() {
+        for (IdCodec codec : IdCodec.values()) {
+            for (UUID uuid : uuids()) {
+                long most = uuid.getMostSignificantBits();
+                long least = uuid.getLeastSignificantBits();
+                String text = codec.encode(uuid);
+                assertEquals(reference(codec, unsigned(most, least), codec.getLength128()), text, codec + " " + uuid);
+                assertEquals(text, codec.encode(most, least));
+                assertEquals(uuid, codec.decodeUuid(text), codec + " " + text);
+            }
+        }
+        UUID max = new UUID(-1L, -1L);
+        assertEquals("7n42DGM5Tflk9n8mt7Fhc7", IdCodec.BASE62.encode(max));
+        assertEquals("7ZZZZZZZZZZZZZZZZZZZZZZZZZ", IdCodec.CROCKFORD32.encode(max));
+    }
+
+    @Test
+    void stringOrderMatchesUnsignedOrder() {
+        for (IdCodec codec : IdCodec.values()) {
+            List<Long> sortedIds = new ArrayList<>();
+            for (long id : ids()) {
+                sortedIds.add(id);
+            }
+            sortedIds.sort(Long::compareUnsigned);
+            List<String> texts = new ArrayList<>();
+            for (long id : sortedIds) {
+                texts.add(codec.encode(id));
+            }
+            List<String> sortedTexts = new ArrayList<>(texts);
+            Collections.sort(sortedTexts);
+            assertEquals(sortedTexts, texts, codec.toString());
+
+            List<UUID> sortedUuids = new ArrayList<>(Arrays.asList(uuids()));
+            sortedUuids.sort((a, b) -> unsigned(a.getMostSignificantBits(), a.getLeastSignificantBits())
+                    .compareTo(unsigned(b.getMostSignificantBits(), b.getLeastSignificantBits())));
+            texts.clear();
+            for (UUID uuid : sortedUuids) {
+                texts.add(codec.encode(uuid));
+            }
+            sortedTexts = new ArrayList<>(texts);
+            Collections.sort(sortedTexts);
+            assertEquals(sortedTexts, texts, codec.toString());
+        }
+    }
+
+    @Test
+    void crockfordAcceptsAliasesAndLowerCase() {
+        IdCodec codec = IdCodec.CROCKFORD32;
+        long id = 0x0123_4567_89AB_CDEFL;
+        String text = codec.encode(id);
+        assertEquals(id, codec.decodeLong(text.toLowerCase()));
+        assertEquals(codec.decodeLong("0000000000001"), codec.decodeLong("000000000000I"));
+        assertEquals(codec.decodeLong("0000000000001"), codec.decodeLong("000000000000l"));
+        assertEquals(codec.decodeLong("0000000000001"), codec.decodeLong("000000000000L"));
+        assertEquals(0L, codec.decodeLong("OOOOOOOOOOOOo"));
+        assertEquals(1L, codec.decodeLong("0000000000001"));
+        UUID uuid = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057");
+        assertEquals(uuid, codec.decodeUuid(codec.encode(uuid).toLowerCase()));
+        // U不在字母表中
+        assertThrows(IllegalArgumentException.class, () -> codec.decodeLong("000000000000U"));
+        // Base62区分大小写，不接受别名
+        assertEquals(IdCodec.BASE62.decodeLong("0000000000I") - 1, IdCodec.BASE62.decodeLong("0000000000H"));
+        assertEquals(IdCodec.BASE62.decodeLong("0000000000a") - 26, IdCodec.BASE62.decodeLong("0000000000A"));
+    }
+
+    @Test
+    void rejectsOverflowAndMalformedText() {
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.BASE62.decodeLong("LygHa16AHYG"));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.BASE62.decodeLong("zzzzzzzzzzz"));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.BASE62.decodeUuid("7n42DGM5Tflk9n8mt7Fhc8"));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.BASE62.decodeUuid("zzzzzzzzzzzzzzzzzzzzzz"));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.CROCKFORD32.decodeLong("G000000000000"));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.CROCKFORD32.decodeUuid("80000000000000000000000000"));
+        for (IdCodec codec : IdCodec.values()) {
+            assertThrows(IllegalArgumentException.class, () -> codec.decodeLong("0"));
+            assertThrows(IllegalArgumentException.class, () -> codec.decodeUuid(codec.encode(1L)));
+            assertThrows(IllegalArgumentException.class, () -> codec.decodeLong(codec.encode(1L).replace('1', '-')));
+            assertThrows(IllegalArgumentException.class, () -> codec.decodeLong(codec.encode(1L).replace('1', '一')));
+            assertThrows(NullPointerException.class, () -> codec.decodeLong(null));
+        }
+    }
+
+    @Test
+    void encodesIntoBuffer() {
+        for (IdCodec codec : IdCodec.values()) {
+            char[] buf = new char[codec.getLength64() + codec.getLength128() + 2];
+            Arrays.fill(buf, '.');
+            assertEquals(codec.getLength64(), codec.encode(-1L, buf, 1));
+            assertEquals(codec.getLength128(), codec.encode(-1L, -1L, buf, 1 + codec.getLength64()));
+            char[] expected = ("." + codec.encode(-1L) + codec.encode(new UUID(-1L, -1L)) + ".").toCharArray();
+            assertArrayEquals(expected, buf);
+            assertThrows(IndexOutOfBoundsException.class, () -> codec.encode(1L, buf, buf.length - codec.getLength64() + 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> codec.encode(1L, 1L, buf, -1));
+        }
+    }
+}
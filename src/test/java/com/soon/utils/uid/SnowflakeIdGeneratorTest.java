@@ -0,0 +1,111 @@
+package com.soon.utils.uid;
+
+import com.soon.utils.UidGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 雪花算法生成器的并发唯一性、吞吐量与默认生成器的节点ID配置
+ *
+ * @author HuYiGong
+ * @since 2026/10/19
+ **/
+class SnowflakeIdGeneratorTest {
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 200_000;
+
+    @AfterEach
+    void restore() {
+        System.clearProperty("soon.uid.datacenter");
+        System.clearProperty("soon.uid.worker");
+        UidGenerator.setSnowflake(null);
+    }
+
+    @Test
+    void concurrentIdsAreUniqueAndIncreasingPerThread() throws Exception {
+        SnowflakeIdGenerator generator = SnowflakeIdGenerator.create(3, 7);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            @SuppressWarnings("unchecked")
+            Future<long[]>[] futures = new Future[THREADS];
+            for (int t = 0; t < THREADS; t++) {
+                futures[t] = executor.submit(() -> {
+                    long[] ids = new long[IDS_PER_THREAD];
+                    start.await();
+                    for (int i = 0; i < ids.length; i++) {
+                        ids[i] = generator.nextId();
+                    }
+                    return ids;
+                });
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            long[] all = new long[THREADS * IDS_PER_THREAD];
+            for (int t = 0; t < THREADS; t++) {
+                long[] ids = futures[t].get(60, TimeUnit.SECONDS);
+                for (int i = 1; i < ids.length; i++) {
+                    assertTrue(ids[i] > ids[i - 1], "同一线程内ID必须递增");
+                }
+                System.arraycopy(ids, 0, all, t * IDS_PER_THREAD, ids.length);
+            }
+            long elapsedNanos = Math.max(1L, System.nanoTime() - begin);
+            Arrays.sort(all);
+            for (int i = 1; i < all.length; i++) {
+                assertTrue(all[i] != all[i - 1], "ID重复：" + all[i]);
+            }
+            assertEquals(3L, generator.getDatacenterId(all[0]));
+            assertEquals(7L, generator.getWorkerId(all[all.length - 1]));
+
+            // 每毫秒最多4096个ID，多线程竞争CAS时吞吐量也不应过低
+            double idsPerMillis = all.length * 1_000_000.0 / elapsedNanos;
+            assertTrue(idsPerMillis >= 100.0, "吞吐量过低：" + idsPerMillis);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void defaultGeneratorRequiresNodeId() {
+        IllegalStateException e = assertThrows(IllegalStateException.class, UidGenerator::nextId);
+        assertTrue(e.getMessage().contains("soon.uid.datacenter"));
+        // 未配置时每次调用都给出相同的异常，而不是类初始化失败
+        assertThrows(IllegalStateException.class, UidGenerator::nextId);
+    }
+
+    @Test
+    void defaultGeneratorRejectsOutOfRangeNodeId() {
+        System.setProperty("soon.uid.datacenter", "1");
+        System.setProperty("soon.uid.worker", "99");
+        IllegalStateException e = assertThrows(IllegalStateException.class, UidGenerator::nextId);
+        assertTrue(e.getMessage().contains("soon.uid.worker=99"));
+
+        System.setProperty("soon.uid.worker", "x");
+        assertThrows(IllegalStateException.class, UidGenerator::nextId);
+
+        System.setProperty("soon.uid.worker", "2");
+        long id = UidGenerator.nextId();
+        assertEquals(1L, UidGenerator.getSnowflake().getDatacenterId(id));
+        assertEquals(2L, UidGenerator.getSnowflake().getWorkerId(id));
+    }
+
+    @Test
+    void defaultGeneratorCanBeReplaced() {
+        SnowflakeIdGenerator generator = SnowflakeIdGenerator.create(5, 6);
+        UidGenerator.setSnowflake(generator);
+        assertSame(generator, UidGenerator.getSnowflake());
+        assertEquals(6L, generator.getWorkerId(UidGenerator.nextId()));
+    }
+}